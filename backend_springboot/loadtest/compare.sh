@@ -0,0 +1,52 @@
+#!/usr/bin/env bash
+# 플랫폼 스레드 / 가상 스레드 모드 처리량·p99 비교 실행
+#
+# 필요: JDK 21, k6, jq, 실행 중인 MySQL/Redis/SMTP (애플리케이션 설정은 기존과 동일하게 환경 변수 등으로 전달)
+# 사용: TOKEN=<JWT> MAIL_TO=<수신 주소> loadtest/compare.sh
+# 같은 빌드·같은 부하로 모드별 한 번씩 서버를 띄워 virtual-threads.js를 실행하고,
+# 결과(loadtest/result-<MODE>.json)를 loadtest/comparison.md 표로 정리한다.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+: "${TOKEN:?TOKEN(JWT)이 필요합니다.}"
+PORT="${PORT:-8080}"
+BASE_URL="http://localhost:${PORT}"
+
+./gradlew -q bootJar
+JAR="$(ls build/libs/*.jar | head -n 1)"
+
+run_mode() {
+    local mode="$1" enabled="$2"
+    java -jar "$JAR" --server.port="$PORT" --board.threads.virtual.enabled="$enabled" > "loadtest/server-${mode}.log" 2>&1 &
+    local pid=$!
+    trap "kill $pid 2>/dev/null || true" EXIT # 중간에 실패해도 서버 종료
+
+    # 기동 완료 대기 (HTTP 응답이 오면 기동된 것으로 봄, 최대 120초)
+    for _ in $(seq 1 120); do
+        curl -s -o /dev/null "${BASE_URL}/actuator/health" && break
+        sleep 1
+    done
+
+    k6 run -e MODE="$mode" -e BASE_URL="$BASE_URL" -e TOKEN="$TOKEN" -e MAIL_TO="${MAIL_TO:-loadtest@example.com}" \
+        loadtest/virtual-threads.js || true # 임계값 초과 여부는 결과 표에서 함께 확인
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    trap - EXIT
+}
+
+run_mode platform false
+run_mode virtual true
+
+{
+    echo "| 시나리오 | platform req/s | virtual req/s | platform p99(ms) | virtual p99(ms) |"
+    echo "|---|---|---|---|---|"
+    for name in list_posts create_post send_mail; do
+        jq -r --slurpfile v loadtest/result-virtual.json --arg n "$name" \
+            '"| \($n) | \(.[$n].throughput | floor) | \($v[0][$n].throughput | floor) | \(.[$n].p99 | floor) | \($v[0][$n].p99 | floor) |"' \
+            loadtest/result-platform.json
+    done
+} > loadtest/comparison.md
+
+cat loadtest/comparison.md
@@ -0,0 +1,84 @@
+// 플랫폼 스레드 / 가상 스레드 모드 처리량·p99 측정용 k6 스크립트
+//
+// 실행 방법 (같은 데이터, 같은 부하로 모드별 한 번씩 실행 후 결과 파일 비교)
+//   1) board.threads.virtual.enabled=false 로 서버 실행
+//      k6 run -e MODE=platform -e BASE_URL=http://localhost:8080 -e TOKEN=<JWT> -e MAIL_TO=<수신 주소> loadtest/virtual-threads.js
+//   2) board.threads.virtual.enabled=true (Java 21 이상) 로 서버 재실행 후 MODE=virtual 로 반복
+// 결과는 loadtest/result-<MODE>.json 에 시나리오별 처리량(req/s)과 p99(ms)로 저장된다.
+// 두 모드 실행과 비교 표 작성은 loadtest/compare.sh 로 한 번에 할 수 있다.
+import http from 'k6/http';
+import { check } from 'k6';
+import { Counter, Trend } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const TOKEN = __ENV.TOKEN;
+const MAIL_TO = __ENV.MAIL_TO || 'loadtest@example.com';
+const MODE = __ENV.MODE || 'platform';
+const VUS = Number(__ENV.VUS || 200);
+const DURATION = __ENV.DURATION || '2m';
+const MAX_P99_MS = Number(__ENV.MAX_P99_MS || 2000); // 이 값을 넘으면 실행 실패로 표시
+
+const image = open('./sample.png', 'b');
+
+const SCENARIOS = ['list_posts', 'create_post', 'send_mail'];
+const durations = Object.fromEntries(SCENARIOS.map((name) => [name, new Trend(`${name}_duration`, true)]));
+const requests = Object.fromEntries(SCENARIOS.map((name) => [name, new Counter(`${name}_requests`)]));
+
+export const options = {
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    scenarios: {
+        list_posts: { executor: 'constant-vus', exec: 'listPosts', vus: VUS, duration: DURATION },
+        create_post: { executor: 'constant-vus', exec: 'createPost', vus: Math.max(1, VUS / 10), duration: DURATION },
+        send_mail: { executor: 'constant-vus', exec: 'sendMail', vus: Math.max(1, VUS / 10), duration: DURATION },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'], // 실패율 1% 미만이어야 비교 의미가 있음
+        ...Object.fromEntries(SCENARIOS.map((name) => [`${name}_duration`, [`p(99)<${MAX_P99_MS}`]])),
+    },
+};
+
+function record(name, res, expected) {
+    durations[name].add(res.timings.duration);
+    requests[name].add(1);
+    check(res, { [expected]: (r) => r.status === 200 });
+}
+
+export function listPosts() {
+    const res = http.get(`${BASE_URL}/posts?page=0&size=10`, { headers: { Authorization: `Bearer ${TOKEN}` } });
+    record('list_posts', res, 'GET /posts 200');
+}
+
+export function createPost() {
+    const postRequest = JSON.stringify({
+        title: `loadtest ${__VU}-${__ITER}`,
+        content: 'virtual thread load test',
+        type: 'loadtest',
+        tags: ['loadtest'],
+    });
+    const res = http.post(`${BASE_URL}/posts`, {
+        postRequest: http.file(postRequest, 'postRequest.json', 'application/json'),
+        multipartFiles: http.file(image, 'sample.png', 'image/png'),
+    }, { headers: { Authorization: `Bearer ${TOKEN}` } });
+    record('create_post', res, 'POST /posts 200');
+}
+
+export function sendMail() {
+    const res = http.post(`${BASE_URL}/mail/send`, JSON.stringify({ email: MAIL_TO }),
+        { headers: { 'Content-Type': 'application/json' } });
+    record('send_mail', res, 'POST /mail/send 200');
+}
+
+// 시나리오별 처리량과 p99만 모아 모드별 결과 파일로 저장
+export function handleSummary(data) {
+    const result = { mode: MODE, vus: VUS, duration: DURATION };
+    for (const name of SCENARIOS) {
+        result[name] = {
+            throughput: data.metrics[`${name}_requests`].values.rate,
+            p99: data.metrics[`${name}_duration`].values['p(99)'],
+        };
+    }
+    return {
+        stdout: JSON.stringify(result, null, 2) + '\n',
+        [`loadtest/result-${MODE}.json`]: JSON.stringify(result, null, 2),
+    };
+}
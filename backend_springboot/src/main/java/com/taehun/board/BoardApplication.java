@@ -3,13 +3,21 @@ package com.taehun.board;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.util.Map;
 
 @SpringBootApplication
 @EnableJpaRepositories(basePackages = "com.taehun.board.repository")
+@EnableScheduling
 public class BoardApplication {
 
 	public static void main(String[] args) {
-		SpringApplication.run(BoardApplication.class, args);
+		SpringApplication application = new SpringApplication(BoardApplication.class);
+		// MySQL 드라이버가 JDBC 배치를 multi-row INSERT로 재작성하도록 기본값 지정 (외부 설정으로 덮어쓸 수 있음)
+		application.setDefaultProperties(Map.of(
+				"spring.datasource.hikari.data-source-properties.rewriteBatchedStatements", "true"));
+		application.run(args);
 	}
 
 }
@@ -0,0 +1,90 @@
+package com.taehun.board.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    // 가상 스레드 모드 (board.threads.virtual.enabled=true): 요청 처리와 I/O 대기 위주의 작업 스레드를 가상 스레드로 실행
+    @Value("${board.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    // Tomcat 요청 처리 스레드를 요청마다 새 가상 스레드로 대체 (DB 동시 접근 수는 커넥션 풀 크기로 제한됨)
+    @Bean
+    @ConditionalOnProperty(name = "board.threads.virtual.enabled", havingValue = "true")
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> protocolHandler.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    // @Scheduled 작업용 스케줄러 (기본값은 스레드 1개라 오래 걸리는 작업이 조회수 반영/토큰 동기화를 지연시킴)
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${board.scheduling.pool-size:4}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("scheduling-");
+        return scheduler;
+    }
+
+    // S3 파일 업로드용 스레드 풀 (큐가 가득 차면 요청 스레드에서 직접 업로드)
+    @Bean
+    public TaskExecutor s3UploadExecutor(@Value("${board.s3.upload-threads:8}") int threads,
+                                         @Value("${board.s3.upload-queue-capacity:100}") int queueCapacity) {
+        if (virtualThreads) {
+            return virtualThreadExecutor("s3-upload-", threads);
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("s3-upload-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
+    // 썸네일 생성용 스레드 풀 (이미지 디코딩은 메모리를 많이 쓰므로 작게 유지, 큐가 가득 차면 작업 거부)
+    // CPU 작업이므로 가상 스레드 모드에서도 플랫폼 스레드 유지
+    @Bean
+    public ThreadPoolTaskExecutor thumbnailExecutor(@Value("${board.thumbnails.threads:2}") int threads,
+                                                    @Value("${board.thumbnails.queue-capacity:500}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("thumbnail-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+
+    // 메일 발송용 스레드 풀 (묶음 하나당 스레드 하나, 분배는 MailOutboxService가 담당)
+    @Bean
+    public TaskExecutor mailExecutor(@Value("${board.mail.workers:2}") int workers) {
+        if (virtualThreads) {
+            return virtualThreadExecutor("mail-", workers);
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setThreadNamePrefix("mail-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
+    // 작업마다 가상 스레드 생성 (외부 서비스 동시 호출 수는 기존 풀 크기로 제한, 초과 시 제출한 스레드가 대기)
+    private static SimpleAsyncTaskExecutor virtualThreadExecutor(String threadNamePrefix, int concurrencyLimit) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor();
+        executor.setThreadFactory(Thread.ofVirtual().name(threadNamePrefix, 0).factory());
+        executor.setConcurrencyLimit(concurrencyLimit);
+        return executor;
+    }
+}
@@ -0,0 +1,22 @@
+package com.taehun.board.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class HibernateConfig {
+
+    // INSERT/UPDATE를 JDBC 배치로 묶어 전송 (IDENTITY가 아닌 ID 전략을 쓰는 엔티티에만 적용됨)
+    @Bean
+    public HibernatePropertiesCustomizer hibernateBatchCustomizer(@Value("${board.jpa.batch-size:50}") int batchSize) {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            properties.put(AvailableSettings.ORDER_INSERTS, true); // 같은 테이블의 INSERT끼리 모아 배치 크기 확보
+            properties.put(AvailableSettings.ORDER_UPDATES, true);
+            properties.put(AvailableSettings.BATCH_VERSIONED_DATA, true);
+        };
+    }
+}
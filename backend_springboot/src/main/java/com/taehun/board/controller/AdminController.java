@@ -0,0 +1,55 @@
+package com.taehun.board.controller;
+
+import com.taehun.board.message.ResponseCode;
+import com.taehun.board.message.ResponseMessage;
+import com.taehun.board.service.PostArchiveService;
+import com.taehun.board.service.UserService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+
+// 관리자 전용 API (ROLE_ADMIN 필요)
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/admin")
+public class AdminController {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final UserService userService;
+    private final PostArchiveService postArchiveService;
+
+    // 전체 사용자 내보내기 (NDJSON 스트리밍)
+    @GetMapping("/users/export")
+    public ResponseEntity<StreamingResponseBody> exportUsers() {
+        return ResponseEntity.ok()
+                .contentType(NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"users.ndjson\"")
+                .body(userService::exportUsers);
+    }
+
+    // 전체 게시글 내보내기 (태그/댓글 포함, NDJSON 스트리밍)
+    @GetMapping("/posts/export")
+    public ResponseEntity<StreamingResponseBody> exportPosts() {
+        return ResponseEntity.ok()
+                .contentType(NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"posts.ndjson\"")
+                .body(postArchiveService::exportPosts);
+    }
+
+    // 게시글 일괄 가져오기 (요청 본문을 NDJSON으로 스트리밍 파싱)
+    @PostMapping(value = "/posts/import", consumes = "application/x-ndjson")
+    public ResponseEntity<ResponseMessage<Long>> importPosts(HttpServletRequest request) throws IOException {
+        long imported = postArchiveService.importPosts(request.getInputStream());
+        return ResponseEntity.ok(ResponseMessage.success(ResponseCode.REQUEST_SUCCESS.getCode(), "게시글 가져오기 성공", imported));
+    }
+}
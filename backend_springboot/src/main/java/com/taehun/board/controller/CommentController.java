@@ -1,6 +1,7 @@
 package com.taehun.board.controller;
 
 import com.taehun.board.dto.CommentDto;
+import com.taehun.board.dto.CursorResponseDto;
 import com.taehun.board.dto.PageResponseDto;
 import com.taehun.board.message.ResponseCode;
 import com.taehun.board.message.ResponseMessage;
@@ -32,6 +33,31 @@ public class CommentController {
         );
     }
 
+    // 게시글의 댓글 조회 (커서 기반, count 쿼리 없음)
+    @GetMapping("/{postId}/cursor")
+    public ResponseEntity<ResponseMessage<CursorResponseDto<CommentDto>>> getCommentFeed(
+            @PathVariable Long postId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        CursorResponseDto<CommentDto> comments = commentService.getCommentFeed(postId, cursor, size);
+        return ResponseEntity.ok(
+                ResponseMessage.success(ResponseCode.REQUEST_SUCCESS.getCode(), "댓글 조회 성공", comments)
+        );
+    }
+
+    // 댓글 스레드(답글 트리) 조회 (스레드별 지연 로딩)
+    @GetMapping("/{postId}/threads/{commentId}")
+    public ResponseEntity<ResponseMessage<CursorResponseDto<CommentDto>>> getThread(
+            @PathVariable Long postId,
+            @PathVariable Long commentId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorResponseDto<CommentDto> replies = commentService.getThread(postId, commentId, cursor, size);
+        return ResponseEntity.ok(
+                ResponseMessage.success(ResponseCode.REQUEST_SUCCESS.getCode(), "답글 조회 성공", replies)
+        );
+    }
+
     // 댓글 작성
     @PostMapping
     public ResponseEntity<ResponseMessage<Void>> addComment(@RequestBody CommentDto commentDto) {
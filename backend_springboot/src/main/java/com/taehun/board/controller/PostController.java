@@ -1,11 +1,16 @@
 package com.taehun.board.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taehun.board.dto.CursorResponseDto;
 import com.taehun.board.dto.PageResponseDto;
 import com.taehun.board.dto.PostDto;
+import com.taehun.board.dto.PostSummaryDto;
+import com.taehun.board.dto.UploadSlotDto;
+import com.taehun.board.dto.UploadSlotRequestDto;
 import com.taehun.board.message.ResponseCode;
 import com.taehun.board.message.ResponseMessage;
 import com.taehun.board.service.PostService;
+import com.taehun.board.service.StagedUploadService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -23,6 +28,7 @@ import java.util.List;
 public class PostController {
 
     private final PostService postService;
+    private final StagedUploadService stagedUploadService;
     private final ObjectMapper objectMapper;
 
     // 게시글 생성 (파일 업로드 지원)
@@ -45,12 +51,33 @@ public class PostController {
         }
     }
 
+    // 첨부 파일 업로드 슬롯 발급 (클라이언트가 presigned URL로 S3에 직접 업로드)
+    @PostMapping("/uploads")
+    public ResponseEntity<ResponseMessage<List<UploadSlotDto>>> createUploadSlots(@RequestBody List<UploadSlotRequestDto> requests) {
+        String username = SecurityContextHolder.getContext().getAuthentication().getName();
+        List<UploadSlotDto> slots = stagedUploadService.createSlots(requests, username);
+        return ResponseEntity.ok(
+                ResponseMessage.success(ResponseCode.REQUEST_SUCCESS.getCode(), "업로드 URL이 발급되었습니다.", slots)
+        );
+    }
+
     @GetMapping
-    public ResponseEntity<ResponseMessage<PageResponseDto<PostDto>>> getPosts(
+    public ResponseEntity<ResponseMessage<PageResponseDto<PostSummaryDto>>> getPosts(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
         Pageable pageable = PageRequest.of(page, size);
-        PageResponseDto<PostDto> posts = postService.getPosts(pageable);
+        PageResponseDto<PostSummaryDto> posts = postService.getPosts(pageable);
+        return ResponseEntity.ok(
+                ResponseMessage.success(ResponseCode.REQUEST_SUCCESS.getCode(), "게시글 목록 조회 성공", posts)
+        );
+    }
+
+    // 게시글 목록 조회 (커서 기반, count 쿼리 없음)
+    @GetMapping("/cursor")
+    public ResponseEntity<ResponseMessage<CursorResponseDto<PostSummaryDto>>> getPostFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        CursorResponseDto<PostSummaryDto> posts = postService.getPostFeed(cursor, size);
         return ResponseEntity.ok(
                 ResponseMessage.success(ResponseCode.REQUEST_SUCCESS.getCode(), "게시글 목록 조회 성공", posts)
         );
@@ -64,14 +91,28 @@ public class PostController {
         );
     }
 
-    // 게시글 검색 (키워드)
+    // 게시글 검색 (키워드, FULLTEXT ngram 인덱스로 관련도 순 조회)
+    // 연산자를 제외한 키워드가 2글자(ngram_token_size) 미만이면 LIKE '%키워드%' 검색으로 대체되어 post 테이블 전체를 스캔함
     @GetMapping("/search/{keyword}")
-    public ResponseEntity<ResponseMessage<PageResponseDto<PostDto>>> searchPosts(
+    public ResponseEntity<ResponseMessage<PageResponseDto<PostSummaryDto>>> searchPosts(
             @PathVariable String keyword,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
         Pageable pageable = PageRequest.of(page, size);
-        PageResponseDto<PostDto> posts = postService.searchPosts(keyword, pageable);
+        PageResponseDto<PostSummaryDto> posts = postService.searchPosts(keyword, pageable);
+        return ResponseEntity.ok(
+                ResponseMessage.success(ResponseCode.REQUEST_SUCCESS.getCode(), "게시글 검색 성공", posts)
+        );
+    }
+
+    // 게시글 검색 (키워드, 커서 기반, 최신순)
+    // 1글자 키워드는 위와 같이 LIKE 검색(전체 스캔)으로 대체됨
+    @GetMapping("/search/{keyword}/cursor")
+    public ResponseEntity<ResponseMessage<CursorResponseDto<PostSummaryDto>>> searchPostFeed(
+            @PathVariable String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        CursorResponseDto<PostSummaryDto> posts = postService.searchPostFeed(keyword, cursor, size);
         return ResponseEntity.ok(
                 ResponseMessage.success(ResponseCode.REQUEST_SUCCESS.getCode(), "게시글 검색 성공", posts)
         );
@@ -79,12 +120,12 @@ public class PostController {
 
     // 게시글 검색 (태그)
     @GetMapping("/search/tags/{tag}")
-    public ResponseEntity<ResponseMessage<PageResponseDto<PostDto>>> searchPostsByTag(
+    public ResponseEntity<ResponseMessage<PageResponseDto<PostSummaryDto>>> searchPostsByTag(
             @PathVariable String tag,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
         Pageable pageable = PageRequest.of(page, size);
-        PageResponseDto<PostDto> posts = postService.searchPostsByTag(tag, pageable);
+        PageResponseDto<PostSummaryDto> posts = postService.searchPostsByTag(tag, pageable);
         return ResponseEntity.ok(
                 ResponseMessage.success(ResponseCode.REQUEST_SUCCESS.getCode(), "태그로 게시글 검색 성공", posts)
         );
@@ -111,7 +152,8 @@ public class PostController {
     // 게시글 좋아요
     @PatchMapping("/likes/{id}")
     public ResponseEntity<ResponseMessage<Void>> likePost(@PathVariable Long id) {
-        postService.likePost(id);
+        String username = SecurityContextHolder.getContext().getAuthentication().getName();
+        postService.likePost(id, username);
         return ResponseEntity.ok(
                 ResponseMessage.success(ResponseCode.REQUEST_SUCCESS.getCode(), "좋아요 추가 성공", null)
         );
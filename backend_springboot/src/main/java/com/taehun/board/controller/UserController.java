@@ -7,6 +7,7 @@ import com.taehun.board.message.AccountMessage;
 import com.taehun.board.message.ResponseCode;
 import com.taehun.board.message.ResponseMessage;
 import com.taehun.board.repository.UserRepository;
+import com.taehun.board.service.ThumbnailService;
 import com.taehun.board.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -17,7 +18,6 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.util.List;
 import java.util.Map;
 
 @Slf4j
@@ -28,6 +28,7 @@ public class UserController {
     private final UserService userService;
     private final ObjectMapper objectMapper;
     private final UserRepository userRepository;
+    private final ThumbnailService thumbnailService;
 
     private String getCurrentUsername() {
         return SecurityContextHolder.getContext().getAuthentication().getName();
@@ -100,9 +101,12 @@ public class UserController {
         );
     }
 
+    // 사용자 목록 조회 (키셋 페이징)
     @GetMapping("/users")
-    public ResponseEntity<ResponseMessage<List<UserDto>>> getAllUsers() {
-        List<UserDto> users = userService.getAllUsers(); // 서비스에서 모든 사용자 정보 조회
+    public ResponseEntity<ResponseMessage<CursorResponseDto<UserDto>>> getUsers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorResponseDto<UserDto> users = userService.getUsers(cursor, size);
         return ResponseEntity.ok(
                 ResponseMessage.success(ResponseCode.REQUEST_SUCCESS.getCode(), "사용자 목록 조회 성공", users)
         );
@@ -160,6 +164,7 @@ public class UserController {
                 .username(user.getUsername())
                 .email(user.getEmail())
                 .profileImageUrl(user.getProfileImageUrl())
+                .profileThumbnailUrl(thumbnailService.getProfileThumbnailUrl(user))
                 .build();
 
         return ResponseEntity.ok(
@@ -0,0 +1,38 @@
+package com.taehun.board.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttachmentDto {
+    @JsonIgnore
+    private Long postId; // 게시글 ID (목록 조회 시 그룹핑용)
+    private String key; // S3 객체 키
+    private String url; // 공개 URL
+    private String contentType; // 컨텐츠 타입
+    private Long size; // 파일 크기 (byte)
+    private Integer width; // 이미지 너비 (px)
+    private Integer height; // 이미지 높이 (px)
+    private Map<Integer, String> thumbnailUrls; // 썸네일 URL (긴 변 길이 -> URL, 이미지인 경우만)
+    @JsonIgnore
+    private Boolean thumbnailsReady; // 썸네일 생성 완료 여부 (아니면 thumbnailUrls에 원본 URL 사용)
+
+    // JPQL 생성자 프로젝션용 (URL은 서비스에서 채움)
+    public AttachmentDto(Long postId, String key, String contentType, Long size, Integer width, Integer height, Boolean thumbnailsReady) {
+        this.postId = postId;
+        this.key = key;
+        this.contentType = contentType;
+        this.size = size;
+        this.width = width;
+        this.height = height;
+        this.thumbnailsReady = thumbnailsReady;
+    }
+}
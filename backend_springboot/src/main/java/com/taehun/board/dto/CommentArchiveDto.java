@@ -0,0 +1,21 @@
+package com.taehun.board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 게시글 가져오기/내보내기용 댓글
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentArchiveDto {
+    private Long id; // 원본 댓글 ID (같은 게시글 안에서 parentId 연결용)
+    private Long parentId; // 원본 부모 댓글 ID (최상위 댓글은 null)
+    private String writer; // 작성자 유저명
+    private String content; // 내용
+    private LocalDateTime createdAt; // 작성일시
+}
@@ -1,5 +1,6 @@
 package com.taehun.board.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -16,5 +17,24 @@ public class CommentDto {
     private String content; // 댓글 내용
     private UserDto writer; // 작성자 정보
     private Long postId; // 게시글 ID (해당 댓글이 속한 게시글)
+    private Long parentId; // 부모 댓글 ID (답글 작성 시 지정, 최상위 댓글은 null)
+    private Integer depth; // 깊이 (최상위 댓글 = 0)
+    private Boolean deleted; // 삭제된 댓글 여부 (답글이 있어 자리만 남은 댓글, 작성자 정보 없음)
+    @JsonIgnore
+    private String path; // 구체화 경로 (스레드 커서용)
     private LocalDateTime createdAt; // 댓글 작성일시
+
+    // JPQL 생성자 프로젝션용 (댓글 엔티티와 작성자를 로딩하지 않음)
+    public CommentDto(Long id, String content, String writerUsername, String writerEmail, Long postId,
+                      Long parentId, Integer depth, String path, Boolean deleted, LocalDateTime createdAt) {
+        this.id = id;
+        this.content = content;
+        this.writer = deleted ? null : UserDto.builder().username(writerUsername).email(writerEmail).build();
+        this.postId = postId;
+        this.parentId = parentId;
+        this.depth = depth;
+        this.path = path;
+        this.deleted = deleted;
+        this.createdAt = createdAt;
+    }
 }
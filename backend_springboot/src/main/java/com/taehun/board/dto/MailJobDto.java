@@ -0,0 +1,18 @@
+package com.taehun.board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 메일 발송 대기열 작업
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class MailJobDto {
+    private String to; // 수신자
+    private String subject; // 제목
+    private String text; // 본문 (plain text)
+    private int attempts; // 실패한 발송 시도 횟수
+}
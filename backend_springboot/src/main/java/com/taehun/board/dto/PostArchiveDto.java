@@ -0,0 +1,28 @@
+package com.taehun.board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 게시글 가져오기/내보내기 NDJSON 한 줄 (게시글 + 태그 + 댓글)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostArchiveDto {
+    private Long id; // 원본 게시글 ID (가져오기 시에는 새 ID 발급)
+    private String title; // 제목
+    private String content; // 내용
+    private String type; // 게시글 유형
+    private Boolean isPrivate; // 비공개 여부
+    private Boolean isCommentsBlocked; // 댓글 차단 여부
+    private Integer views; // 조회수
+    private String writer; // 작성자 유저명
+    private LocalDateTime createdAt; // 작성일시
+    private List<String> tags; // 태그 이름 목록
+    private List<CommentArchiveDto> comments; // 댓글 목록 (부모 댓글이 자식보다 먼저 나옴)
+}
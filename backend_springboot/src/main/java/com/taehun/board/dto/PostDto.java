@@ -9,7 +9,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class PostDto {
@@ -21,9 +21,12 @@ public class PostDto {
     private List<CommentDto> comments; // 댓글 리스트
     private Integer likes; // 좋아요 수
     private Integer views; // 조회수
+    private Integer commentCount; // 댓글 수
     private Boolean isPrivate; // 비공개 여부
     private Boolean isCommentsBlocked; // 댓글 차단 여부
     private LocalDateTime createdAt; // 생성일시
     private LocalDateTime updatedAt; // 수정일시
     private List<String> tags; // 태그 이름 리스트
+    private List<String> attachmentKeys; // 사전 업로드(presigned URL)된 첨부 파일 키
+    private List<AttachmentDto> attachments; // 첨부 파일 목록
 }
@@ -0,0 +1,47 @@
+package com.taehun.board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+
+// 게시글 목록용 요약 DTO (본문 제외)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostSummaryDto {
+    private Long id; // 게시글 ID
+    private String title; // 게시글 제목
+    private String type; // 게시글 유형
+    private UserDto writer; // 작성자 정보
+    private List<String> tags; // 태그 이름 리스트
+    private List<AttachmentDto> attachments; // 첨부 파일 목록
+    private Integer likes; // 좋아요 수
+    private Integer views; // 조회수
+    private Integer commentCount; // 댓글 수
+    private LocalDateTime createdAt; // 생성일시
+
+    // JPQL 생성자 프로젝션용 (엔티티를 로딩하지 않고 필요한 컬럼만 조회)
+    public PostSummaryDto(Long id, String title, String type, String writerUsername, Integer likes, Integer views,
+                          Integer commentCount, Date createdAt) {
+        this.id = id;
+        this.title = title;
+        this.type = type;
+        this.writer = UserDto.builder().username(writerUsername).build();
+        this.likes = likes != null ? likes : 0;
+        this.views = views != null ? views : 0;
+        this.commentCount = commentCount != null ? commentCount : 0;
+        this.createdAt = createdAt.toInstant().atZone(ZoneId.systemDefault()).toLocalDateTime();
+    }
+
+    public static PostSummaryDto from(PostSummaryView view) {
+        return new PostSummaryDto(view.getId(), view.getTitle(), view.getType(), view.getWriterUsername(),
+                view.getLikes(), view.getViews(), view.getCommentCount(), view.getCreatedAt());
+    }
+}
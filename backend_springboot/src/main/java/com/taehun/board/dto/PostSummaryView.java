@@ -0,0 +1,15 @@
+package com.taehun.board.dto;
+
+import java.util.Date;
+
+// 네이티브 쿼리용 게시글 요약 프로젝션
+public interface PostSummaryView {
+    Long getId(); // 게시글 ID
+    String getTitle(); // 게시글 제목
+    String getType(); // 게시글 유형
+    String getWriterUsername(); // 작성자 이름
+    Integer getLikes(); // 좋아요 수
+    Integer getViews(); // 조회수
+    Integer getCommentCount(); // 댓글 수
+    Date getCreatedAt(); // 생성일시
+}
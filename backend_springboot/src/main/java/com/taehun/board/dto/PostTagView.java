@@ -0,0 +1,7 @@
+package com.taehun.board.dto;
+
+// 게시글 ID별 태그 이름 프로젝션
+public interface PostTagView {
+    Long getPostId(); // 게시글 ID
+    String getName(); // 태그 이름
+}
@@ -0,0 +1,21 @@
+package com.taehun.board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// S3에 저장된 파일 정보
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StoredFileDto {
+    private String key; // S3 객체 키
+    private String url; // 공개 URL
+    private String contentType; // 컨텐츠 타입
+    private long size; // 파일 크기 (byte)
+    private String eTag; // S3 ETag
+    private Integer width; // 이미지 너비 (px, 알 수 없으면 null)
+    private Integer height; // 이미지 높이 (px, 알 수 없으면 null)
+}
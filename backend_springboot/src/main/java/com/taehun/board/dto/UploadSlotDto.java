@@ -0,0 +1,19 @@
+package com.taehun.board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 발급된 업로드 슬롯 (클라이언트가 uploadUrl로 직접 PUT 업로드)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadSlotDto {
+    private String key; // 게시글 생성 시 attachmentKeys로 전달할 객체 키
+    private String uploadUrl; // presigned PUT URL
+    private LocalDateTime expiresAt; // URL 만료 시각
+}
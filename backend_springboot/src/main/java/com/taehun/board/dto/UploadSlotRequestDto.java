@@ -0,0 +1,17 @@
+package com.taehun.board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 업로드 슬롯(presigned URL) 발급 요청
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadSlotRequestDto {
+    private String fileName; // 원본 파일 이름
+    private String contentType; // 컨텐츠 타입
+    private long size; // 파일 크기 (byte)
+}
@@ -29,6 +29,8 @@ public class UserDto {
 
     private String profileImageUrl;
 
+    private String profileThumbnailUrl; // 프로필 이미지 썸네일 (목록/아바타용)
+
     private String verificationCode;
 }
 
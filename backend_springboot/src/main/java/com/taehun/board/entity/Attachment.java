@@ -0,0 +1,49 @@
+package com.taehun.board.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(
+        name = "attachment",
+        uniqueConstraints = @UniqueConstraint(name = "uk_attachment_object_key", columnNames = "object_key"),
+        indexes = @Index(name = "idx_attachment_post", columnList = "post_id, id")
+)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Attachment {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id; // 첨부 파일 ID
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "post_id", nullable = false)
+    private Post post; // 게시글 정보
+
+    @Column(name = "object_key", nullable = false, length = 512)
+    private String objectKey; // S3 객체 키
+
+    @Column(nullable = false)
+    private Long size; // 파일 크기 (byte)
+
+    @Column(length = 100)
+    private String contentType; // 컨텐츠 타입
+
+    private Integer width; // 이미지 너비 (px)
+
+    private Integer height; // 이미지 높이 (px)
+
+    @Column(length = 64)
+    private String checksum; // 무결성 확인용 체크섬 (S3 ETag)
+
+    @Column(nullable = false)
+    private Boolean thumbnailsReady; // 썸네일 생성 완료 여부
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt; // 등록 일시
+}
@@ -4,6 +4,10 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_comment_post_created", columnList = "post_id, depth, created_at, id"), // 최상위 댓글 페이징
+        @Index(name = "idx_comment_post_path", columnList = "post_id, path") // 스레드(하위 트리) 범위 조회
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -11,8 +15,12 @@ import lombok.*;
 @Builder
 public class Comment extends BaseEntity {
 
+    private static final String DELETED_CONTENT = "삭제된 댓글입니다.";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "comment_id")
+    @TableGenerator(name = "comment_id", table = "id_sequence", pkColumnName = "name", valueColumnName = "next_val",
+            pkColumnValue = "comment", allocationSize = 50) // ID를 50개 단위로 할당받아 INSERT 배치 허용
     private Long id; // 댓글 ID
 
     @Column(nullable = false, columnDefinition = "TEXT")
@@ -25,4 +33,29 @@ public class Comment extends BaseEntity {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "post_id", nullable = false)
     private Post post; // 게시글 정보
+
+    @Column(name = "parent_id")
+    private Long parentId; // 부모 댓글 ID (최상위 댓글은 null)
+
+    // 구체화 경로: 조상부터 자신까지의 ID를 고정 길이로 이어 붙인 값 (예: 000000000012/000000000034/)
+    // 같은 스레드의 댓글은 경로 접두사가 같으므로 인덱스 범위 스캔 한 번으로 하위 트리를 조회한다.
+    @Column(nullable = false)
+    private String path;
+
+    @Column(nullable = false)
+    private Integer depth; // 깊이 (최상위 댓글 = 0)
+
+    @Column(nullable = false)
+    private Boolean deleted; // 삭제 여부 (답글이 있어 내용만 지운 댓글)
+
+    @Override
+    protected void initializeDefaults() {
+        this.deleted = (this.deleted == null) ? false : this.deleted;
+    }
+
+    // 답글을 남겨두고 내용만 삭제
+    public void markDeleted() {
+        this.content = DELETED_CONTENT;
+        this.deleted = true;
+    }
 }
@@ -2,6 +2,7 @@ package com.taehun.board.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -18,7 +19,9 @@ import java.util.List;
 public class Post {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "post_id")
+    @TableGenerator(name = "post_id", table = "id_sequence", pkColumnName = "name", valueColumnName = "next_val",
+            pkColumnValue = "post", allocationSize = 50) // ID를 50개 단위로 할당받아 INSERT 배치 허용
     private Long id; // 게시글 ID
 
     @Column(nullable = false, length = 100)
@@ -32,13 +35,14 @@ public class Post {
     private User writer; // 작성자 정보
 
     @Column(columnDefinition = "TEXT")
-    private String filePath;
+    private String filePath; // 이전 방식의 첨부 경로 (세미콜론 구분, 신규 게시글은 attachment 테이블 사용)
 
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<Comment> comments = new ArrayList<>(); // 댓글 리스트
 
-    @ManyToMany(fetch = FetchType.LAZY, cascade = CascadeType.ALL)
+    @ManyToMany(fetch = FetchType.LAZY) // 태그는 여러 게시글이 공유하므로 cascade 없음 (TagService에서 생성)
+    @BatchSize(size = 100) // 여러 게시글의 태그를 IN 쿼리로 일괄 로딩
     @JoinTable(
             name = "post_tags",
             joinColumns = @JoinColumn(name = "post_id"),
@@ -53,6 +57,9 @@ public class Post {
     @Column(nullable = false)
     private Integer views; // 조회수
 
+    @Column(nullable = false)
+    private Integer commentCount; // 댓글 수 (CommentService에서 SQL 증감으로 유지)
+
     @Column(nullable = false)
     private Boolean isPrivate; // 비공개 여부
 
@@ -106,6 +113,7 @@ public class Post {
     public void prePersist() {
         this.likes = (this.likes == null) ? 0 : this.likes;
         this.views = (this.views == null) ? 0 : this.views;
+        this.commentCount = (this.commentCount == null) ? 0 : this.commentCount;
         this.isPrivate = (this.isPrivate == null) ? false : this.isPrivate;
         this.isCommentsBlocked = (this.isCommentsBlocked == null) ? false : this.isCommentsBlocked;
         this.type = (this.type == null) ? "default" : this.type;
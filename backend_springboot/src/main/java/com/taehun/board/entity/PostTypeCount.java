@@ -0,0 +1,21 @@
+package com.taehun.board.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// 게시글 유형별 개수 (게시글 작성/삭제 시 SQL 증감으로 유지)
+@Entity
+@Table(name = "post_type_count")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PostTypeCount {
+
+    @Id
+    @Column(length = 50)
+    private String type; // 게시글 유형
+
+    @Column(nullable = false)
+    private Long postCount; // 게시글 수
+}
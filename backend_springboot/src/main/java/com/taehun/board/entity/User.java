@@ -27,6 +27,9 @@ public class User extends BaseEntity {
     @Column
     private String profileImageUrl; // S3 URL 저장
 
+    @Column
+    private String profileThumbnailUrl; // 프로필 썸네일 URL (생성 완료 후 기록)
+
     @Column
     private String phone;
 }
@@ -0,0 +1,30 @@
+package com.taehun.board.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// 사용자별 누적 통계 (게시글/댓글/좋아요/조회수 쓰기 경로에서 증분 갱신)
+@Entity
+@Table(name = "user_stats")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserStats {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId; // 사용자 ID
+
+    @Column(nullable = false)
+    private Long postCount; // 작성한 게시글 수
+
+    @Column(nullable = false)
+    private Long totalViews; // 작성한 게시글의 조회수 합계
+
+    @Column(nullable = false)
+    private Long totalLikes; // 작성한 게시글의 좋아요 합계
+
+    @Column(nullable = false)
+    private Long totalComments; // 작성한 게시글에 달린 댓글 합계
+}
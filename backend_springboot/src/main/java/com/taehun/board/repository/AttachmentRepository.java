@@ -0,0 +1,34 @@
+package com.taehun.board.repository;
+
+import com.taehun.board.dto.AttachmentDto;
+import com.taehun.board.entity.Attachment;
+import jakarta.transaction.Transactional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface AttachmentRepository extends JpaRepository<Attachment, Long> {
+    String DTO_SELECT = "select new com.taehun.board.dto.AttachmentDto(a.post.id, a.objectKey, a.contentType, a.size, a.width, a.height, a.thumbnailsReady) ";
+
+    // 여러 게시글의 첨부 파일 일괄 조회 (idx_attachment_post 사용)
+    @Query(DTO_SELECT + "from Attachment a where a.post.id in :postIds order by a.post.id, a.id")
+    List<AttachmentDto> findDtosByPostIds(@Param("postIds") Collection<Long> postIds);
+
+    // 주어진 키 중 게시글에 연결된 키 조회 (uk_attachment_object_key 인덱스로 고아 객체 판별)
+    @Query("select a.objectKey from Attachment a where a.objectKey in :keys")
+    List<String> findExistingObjectKeys(@Param("keys") Collection<String> keys);
+
+    @Transactional
+    @Modifying
+    @Query("update Attachment a set a.width = :width, a.height = :height where a.objectKey = :key and a.width is null")
+    int updateDimensionsIfMissing(@Param("key") String key, @Param("width") Integer width, @Param("height") Integer height); // 이미지 크기 기록
+
+    @Transactional
+    @Modifying
+    @Query("update Attachment a set a.thumbnailsReady = true where a.objectKey = :key")
+    int markThumbnailsReady(@Param("key") String key); // 썸네일 생성 완료 기록
+}
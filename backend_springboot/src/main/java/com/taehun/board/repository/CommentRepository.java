@@ -1,13 +1,44 @@
 package com.taehun.board.repository;
 
+import com.taehun.board.dto.CommentDto;
 import com.taehun.board.entity.Comment;
-import com.taehun.board.entity.Post;
 import com.taehun.board.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
-    Page<Comment> findByPostOrderByCreatedAtDesc(Post post, Pageable pageable); // 게시글 댓글 조회
+    String DTO_SELECT = "select new com.taehun.board.dto.CommentDto(c.id, c.content, w.username, w.email, c.post.id, c.parentId, c.depth, c.path, c.deleted, c.createdAt) ";
+
     long countByWriter(User writer); // 특정 유저 댓글 수 조회
+
+    // 게시글의 최상위 댓글 페이징 조회 (작성자 정보를 같은 쿼리에서 프로젝션, idx_comment_post_created 사용)
+    @Query(value = DTO_SELECT + "from Comment c join c.writer w where c.post.id = :postId and c.depth = 0 " +
+            "order by c.createdAt desc, c.id desc",
+            countQuery = "select count(c) from Comment c where c.post.id = :postId and c.depth = 0")
+    Page<CommentDto> findPageByPostId(@Param("postId") Long postId, Pageable pageable);
+
+    // 커서 기반 최상위 댓글 조회 (count 쿼리 없음)
+    @Query(DTO_SELECT + "from Comment c join c.writer w where c.post.id = :postId and c.depth = 0 " +
+            "and (c.createdAt < :createdAt or (c.createdAt = :createdAt and c.id < :id)) " +
+            "order by c.createdAt desc, c.id desc")
+    Slice<CommentDto> findFeedByPostId(@Param("postId") Long postId, @Param("createdAt") LocalDateTime createdAt,
+                                       @Param("id") Long id, Pageable pageable);
+
+    // 스레드 답글 조회 (경로 접두사 범위 스캔, 경로 순 = 깊이 우선 순서, idx_comment_post_path 사용)
+    @Query(DTO_SELECT + "from Comment c join c.writer w where c.post.id = :postId " +
+            "and c.path like :pathPattern and c.path > :afterPath order by c.path")
+    Slice<CommentDto> findThread(@Param("postId") Long postId, @Param("pathPattern") String pathPattern,
+                                 @Param("afterPath") String afterPath, Pageable pageable);
+
+    // 답글 존재 여부 (하위 경로는 모두 자신의 경로보다 크므로 idx_comment_post_path 범위 스캔)
+    @Query("select case when count(c) > 0 then true else false end from Comment c " +
+            "where c.post.id = :postId and c.path like :pathPattern and c.path > :path")
+    boolean hasReplies(@Param("postId") Long postId, @Param("pathPattern") String pathPattern, @Param("path") String path);
 }
@@ -0,0 +1,19 @@
+package com.taehun.board.repository;
+
+import com.taehun.board.entity.PostLike;
+import jakarta.transaction.Transactional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
+
+    // 중복 좋아요는 UNIQUE(post_id, user_id)에 의해 무시됨 (삽입된 행 수 반환)
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO post_like (post_id, user_id, created_at) VALUES (:postId, :userId, NOW())", nativeQuery = true)
+    int insertIgnore(@Param("postId") Long postId, @Param("userId") Long userId);
+
+    long countByPostId(Long postId); // 게시글 좋아요 수 조회
+}
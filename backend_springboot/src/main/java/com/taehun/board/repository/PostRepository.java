@@ -1,23 +1,108 @@
 package com.taehun.board.repository;
 
+import com.taehun.board.dto.PostSummaryDto;
+import com.taehun.board.dto.PostSummaryView;
+import com.taehun.board.dto.PostTagView;
 import com.taehun.board.entity.Post;
 import com.taehun.board.entity.User;
+import jakarta.transaction.Transactional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
-    Page<Post> findAllByIsPrivateFalse(Pageable pageable); // 비공개 제외 페이징 조회
+    String SUMMARY_SELECT = "select new com.taehun.board.dto.PostSummaryDto(p.id, p.title, p.type, w.username, p.likes, p.views, p.commentCount, p.createdAt) ";
+
+    @Query(value = SUMMARY_SELECT + "from Post p join p.writer w where p.isPrivate = false order by p.createdAt desc, p.id desc",
+            countQuery = "select count(p) from Post p where p.isPrivate = false")
+    Page<PostSummaryDto> findPublicSummaries(Pageable pageable); // 비공개 제외 페이징 조회
 
     long countByWriter(User writer); // 특정 유저의 게시글 개수 조회
 
-    List<Post> findAllByWriter(User writer); // 특정 유저의 모든 게시글 조회
+    @Query(value = SUMMARY_SELECT + "from Post p join p.writer w " +
+            "where p.title like concat('%', :keyword, '%') or p.content like concat('%', :keyword, '%') " +
+            "order by p.createdAt desc, p.id desc",
+            countQuery = "select count(p) from Post p " +
+                    "where p.title like concat('%', :keyword, '%') or p.content like concat('%', :keyword, '%')")
+    Page<PostSummaryDto> searchSummaries(@Param("keyword") String keyword, Pageable pageable); // 키워드 검색
+
+    @Query(value = SUMMARY_SELECT + "from Post p join p.writer w join p.tags t where t.name = :tag " +
+            "order by p.createdAt desc, p.id desc",
+            countQuery = "select count(p) from Post p join p.tags t where t.name = :tag")
+    Page<PostSummaryDto> findSummariesByTagName(@Param("tag") String tag, Pageable pageable); // 태그 검색
+
+    // 커서 기반 목록 조회 (비공개 제외, count 쿼리 없음)
+    @Query(SUMMARY_SELECT + "from Post p join p.writer w where p.isPrivate = false " +
+            "and (p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :id)) " +
+            "order by p.createdAt desc, p.id desc")
+    Slice<PostSummaryDto> findPublicFeed(@Param("createdAt") Date createdAt, @Param("id") Long id, Pageable pageable);
+
+    // 커서 기반 키워드 검색
+    @Query(SUMMARY_SELECT + "from Post p join p.writer w " +
+            "where (p.title like concat('%', :keyword, '%') or p.content like concat('%', :keyword, '%')) " +
+            "and (p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :id)) " +
+            "order by p.createdAt desc, p.id desc")
+    Slice<PostSummaryDto> searchFeed(@Param("keyword") String keyword, @Param("createdAt") Date createdAt, @Param("id") Long id, Pageable pageable);
+
+    String FULLTEXT_SELECT = "SELECT p.id AS id, p.title AS title, p.type AS type, u.username AS writerUsername, " +
+            "p.likes AS likes, p.views AS views, p.comment_count AS commentCount, p.created_at AS createdAt " +
+            "FROM post p JOIN user u ON u.id = p.user_id ";
+    String FULLTEXT_MATCH = "MATCH(p.title, p.content) AGAINST (:query IN BOOLEAN MODE)";
+
+    // 전문 검색 (FULLTEXT ngram 인덱스, 관련도 순)
+    @Query(value = FULLTEXT_SELECT + "WHERE " + FULLTEXT_MATCH + " ORDER BY " + FULLTEXT_MATCH + " DESC, p.id DESC",
+            countQuery = "SELECT COUNT(*) FROM post p WHERE " + FULLTEXT_MATCH,
+            nativeQuery = true)
+    Page<PostSummaryView> fullTextSearch(@Param("query") String query, Pageable pageable);
+
+    // 커서 기반 전문 검색 (최신순)
+    @Query(value = FULLTEXT_SELECT + "WHERE " + FULLTEXT_MATCH + " " +
+            "AND (p.created_at < :createdAt OR (p.created_at = :createdAt AND p.id < :id)) " +
+            "ORDER BY p.created_at DESC, p.id DESC",
+            nativeQuery = true)
+    Slice<PostSummaryView> fullTextSearchFeed(@Param("query") String query, @Param("createdAt") Date createdAt,
+                                              @Param("id") Long id, Pageable pageable);
+
+    // 목록 페이지 게시글들의 태그 일괄 조회
+    @Query("select p.id as postId, t.name as name from Post p join p.tags t where p.id in :postIds")
+    List<PostTagView> findTagNamesByPostIds(@Param("postIds") Collection<Long> postIds);
+
+    @Query("select coalesce(max(p.id), 0) from Post p")
+    long findMaxId(); // 가장 큰 게시글 ID 조회 (배치 작업 구간 계산용)
+
+    @Transactional
+    @Modifying
+    @Query("update Post p set p.likes = p.likes + 1 where p.id = :id")
+    int incrementLikes(@Param("id") Long id); // 좋아요 수 원자적 증가
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE post p SET p.likes = (SELECT COUNT(*) FROM post_like l WHERE l.post_id = p.id) " +
+            "WHERE p.id BETWEEN :fromId AND :toId", nativeQuery = true)
+    int reconcileLikes(@Param("fromId") Long fromId, @Param("toId") Long toId); // 구간별 좋아요 수 재계산
 
-    long countByType(String type); // 특정 타입의 게시글 개수 조회
+    @Transactional
+    @Modifying
+    @Query("update Post p set p.commentCount = p.commentCount + 1 where p.id = :id")
+    int incrementCommentCount(@Param("id") Long id); // 댓글 수 원자적 증가
 
-    Page<Post> findByTitleContainingOrContentContaining(String title, String content, Pageable pageable); // 키워드 검색
+    @Transactional
+    @Modifying
+    @Query("update Post p set p.commentCount = case when p.commentCount > :count then p.commentCount - :count else 0 end " +
+            "where p.id = :id")
+    int decrementCommentCount(@Param("id") Long id, @Param("count") int count); // 댓글 수 원자적 감소
 
-    Page<Post> findByTagsName(String tag, Pageable pageable); // 태그 검색
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE post p SET p.comment_count = (SELECT COUNT(*) FROM comment c WHERE c.post_id = p.id) " +
+            "WHERE p.id BETWEEN :fromId AND :toId", nativeQuery = true)
+    int reconcileCommentCounts(@Param("fromId") Long fromId, @Param("toId") Long toId); // 구간별 댓글 수 재계산
 }
@@ -0,0 +1,44 @@
+package com.taehun.board.repository;
+
+import com.taehun.board.entity.PostTypeCount;
+import jakarta.transaction.Transactional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface PostTypeCountRepository extends JpaRepository<PostTypeCount, String> {
+
+    @Query("select coalesce(sum(c.postCount), 0) from PostTypeCount c")
+    long sumAll(); // 전체 게시글 수 (유형 수만큼의 행만 합산)
+
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO post_type_count (type, post_count) VALUES (:type, 1) " +
+            "ON DUPLICATE KEY UPDATE post_count = post_count + 1", nativeQuery = true)
+    int increment(@Param("type") String type); // 게시글 작성
+
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO post_type_count (type, post_count) VALUES (:type, :delta) " +
+            "ON DUPLICATE KEY UPDATE post_count = post_count + :delta", nativeQuery = true)
+    int add(@Param("type") String type, @Param("delta") long delta); // 게시글 일괄 가져오기
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE post_type_count SET post_count = GREATEST(post_count - 1, 0) WHERE type = :type", nativeQuery = true)
+    int decrement(@Param("type") String type); // 게시글 삭제
+
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO post_type_count (type, post_count) " +
+            "SELECT p.type, COUNT(*) FROM post p WHERE p.type IS NOT NULL GROUP BY p.type " +
+            "ON DUPLICATE KEY UPDATE post_count = VALUES(post_count)", nativeQuery = true)
+    int reconcile(); // post 테이블 기준 재계산 (idx_post_type 사용)
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE post_type_count c SET c.post_count = 0 " +
+            "WHERE NOT EXISTS (SELECT 1 FROM post p WHERE p.type = c.type)", nativeQuery = true)
+    int resetMissing(); // 게시글이 모두 삭제된 유형 정리
+}
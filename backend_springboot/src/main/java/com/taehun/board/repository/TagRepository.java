@@ -0,0 +1,17 @@
+package com.taehun.board.repository;
+
+import com.taehun.board.entity.Tag;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface TagRepository extends JpaRepository<Tag, Long> {
+    List<Tag> findByNameIn(Collection<String> names); // 이름 목록으로 태그 일괄 조회
+
+    // 잠금 읽기 (스냅샷이 아닌 최신 커밋 값을 읽으므로 다른 트랜잭션이 방금 만든 태그도 보인다)
+    @Query(value = "SELECT * FROM tag WHERE name IN (:names) FOR SHARE", nativeQuery = true)
+    List<Tag> findByNameInForShare(@Param("names") Collection<String> names);
+}
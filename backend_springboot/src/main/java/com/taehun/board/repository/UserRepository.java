@@ -2,13 +2,46 @@ package com.taehun.board.repository;
 
 
 import com.taehun.board.entity.User;
+import jakarta.persistence.QueryHint;
+import jakarta.transaction.Transactional;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);          // 이메일로 유저 조회
     Optional<User> findByUsername(String username);    // 유저명으로 유저 조회
+
+    List<User> findByUsernameIn(Collection<String> usernames); // 유저명 목록으로 일괄 조회
+
+    // 프로필 썸네일 URL 기록 (그 사이 프로필 이미지가 바뀌었으면 반영하지 않음)
+    @Transactional
+    @Modifying
+    @Query("update User u set u.profileThumbnailUrl = :thumbnailUrl where u.id = :id and u.profileImageUrl = :imageUrl")
+    int updateProfileThumbnailUrl(@Param("id") Long id, @Param("imageUrl") String imageUrl, @Param("thumbnailUrl") String thumbnailUrl);
     boolean existsByEmailOrUsername(String email, String username); // 이메일 또는 유저명 중복 체크
+
+    @Query("select coalesce(max(u.id), 0) from User u")
+    long findMaxId(); // 가장 큰 유저 ID 조회 (배치 작업 구간 계산용)
+
+    Slice<User> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable); // 키셋 페이징 (PK 범위 스캔)
+
+    // 전체 유저 스트리밍 조회 (MySQL은 fetchSize = Integer.MIN_VALUE일 때 행 단위로 스트리밍, 트랜잭션 안에서 사용)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select u from User u order by u.id")
+    Stream<User> streamAll();
 }
 
@@ -0,0 +1,54 @@
+package com.taehun.board.repository;
+
+import com.taehun.board.entity.UserStats;
+import jakarta.transaction.Transactional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface UserStatsRepository extends JpaRepository<UserStats, Long> {
+
+    // 구간별 통계를 post 테이블 SUM으로 재계산 (행이 없으면 생성)
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO user_stats (user_id, post_count, total_views, total_likes, total_comments) " +
+            "SELECT u.id, COUNT(p.id), COALESCE(SUM(p.views), 0), COALESCE(SUM(p.likes), 0), COALESCE(SUM(p.comment_count), 0) " +
+            "FROM user u LEFT JOIN post p ON p.user_id = u.id WHERE u.id BETWEEN :fromId AND :toId GROUP BY u.id " +
+            "ON DUPLICATE KEY UPDATE post_count = VALUES(post_count), total_views = VALUES(total_views), " +
+            "total_likes = VALUES(total_likes), total_comments = VALUES(total_comments)",
+            nativeQuery = true)
+    int rebuild(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE user_stats SET post_count = post_count + 1 WHERE user_id = :userId", nativeQuery = true)
+    int incrementPostCount(@Param("userId") Long userId); // 게시글 작성
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE user_stats SET post_count = post_count + :posts, total_views = total_views + :views, " +
+            "total_comments = total_comments + :comments WHERE user_id = :userId", nativeQuery = true)
+    int addPosts(@Param("userId") Long userId, @Param("posts") long posts,
+                 @Param("views") long views, @Param("comments") long comments); // 게시글 일괄 가져오기
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE user_stats SET post_count = GREATEST(post_count - 1, 0), " +
+            "total_views = GREATEST(total_views - :views, 0), total_likes = GREATEST(total_likes - :likes, 0), " +
+            "total_comments = GREATEST(total_comments - :comments, 0) WHERE user_id = :userId", nativeQuery = true)
+    int subtractPost(@Param("userId") Long userId, @Param("views") long views,
+                     @Param("likes") long likes, @Param("comments") long comments); // 게시글 삭제
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE user_stats s JOIN post p ON p.user_id = s.user_id " +
+            "SET s.total_likes = s.total_likes + 1 WHERE p.id = :postId", nativeQuery = true)
+    int incrementLikesByPost(@Param("postId") Long postId); // 게시글 작성자의 좋아요 합계 증가
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE user_stats s JOIN post p ON p.user_id = s.user_id " +
+            "SET s.total_comments = GREATEST(s.total_comments + :delta, 0) WHERE p.id = :postId", nativeQuery = true)
+    int addCommentsByPost(@Param("postId") Long postId, @Param("delta") long delta); // 게시글 작성자의 댓글 합계 증감
+}
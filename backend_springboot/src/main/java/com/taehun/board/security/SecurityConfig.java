@@ -3,6 +3,7 @@ package com.taehun.board.security;
 import com.taehun.board.security.jwt.JwtAuthenticationFilter;
 import com.taehun.board.security.jwt.TokenProvider;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -28,6 +29,9 @@ public class SecurityConfig {
 
     private final TokenProvider tokenProvider; // JWT 토큰 관련 로직
 
+    @Value("${board.admin.usernames:}")
+    private List<String> adminUsernames; // 관리자 권한을 부여할 사용자 이름
+
     /**
      * Spring Security 필터 체인 설정
      */
@@ -38,6 +42,7 @@ public class SecurityConfig {
                 .authorizeHttpRequests(authorize -> authorize
                         // 인증 없이 접근 가능한 URL 경로 설정
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll() // Preflight 요청 허용
+                        .requestMatchers("/admin/**").hasRole("ADMIN") // 관리자 API
                         .requestMatchers(
                                 "/users/**", // 사용자 관련 API (회원가입, 로그인, 조회 등)
                                 "/mail/**",  // 이메일 인증 관련 API
@@ -104,6 +109,7 @@ public class SecurityConfig {
         // JWT 인증을 제외할 경로를 설정
         return new JwtAuthenticationFilter(
                 tokenProvider,
+                adminUsernames,
                 List.of(
                         "/mail/**", // 이메일 관련 경로
                         "/registers", // 회원가입
@@ -6,6 +6,8 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.server.PathContainer;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.security.web.authentication.preauth.PreAuthenticatedAuthenticationToken;
@@ -14,16 +16,21 @@ import org.springframework.web.util.pattern.PathPattern;
 import org.springframework.web.util.pattern.PathPatternParser;
 
 import java.util.List;
+import java.util.Set;
 
 @Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    private static final List<GrantedAuthority> ADMIN_AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_ADMIN"));
+
     private final TokenProvider tokenProvider;
+    private final Set<String> adminUsernames;
     private final List<String> excludePaths;
     private final PathPatternParser pathPatternParser = new PathPatternParser();
 
-    public JwtAuthenticationFilter(TokenProvider tokenProvider, List<String> excludePaths) {
+    public JwtAuthenticationFilter(TokenProvider tokenProvider, List<String> adminUsernames, List<String> excludePaths) {
         this.tokenProvider = tokenProvider;
+        this.adminUsernames = Set.copyOf(adminUsernames.stream().filter(name -> !name.isBlank()).toList());
         this.excludePaths = excludePaths;
     }
 
@@ -54,10 +61,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = resolveToken(request);
         try {
-            if (token != null && tokenProvider.validateToken(token)) {
-                String username = tokenProvider.getUsernameFromToken(token);
+            VerifiedToken verified = token != null ? tokenProvider.verifyToken(token) : null; // 요청당 한 번만 검증
+            if (verified != null && tokenProvider.isBlacklisted(token)) {
+                log.debug("Revoked JWT token for URI: {}", requestUri);
+            } else if (verified != null) {
                 PreAuthenticatedAuthenticationToken authentication = new PreAuthenticatedAuthenticationToken(
-                        username, null, null);
+                        verified.getUsername(), token, // 로그아웃 시 폐기할 수 있도록 토큰을 credentials로 보관
+                        adminUsernames.contains(verified.getUsername()) ? ADMIN_AUTHORITIES : List.of());
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             } else {
@@ -1,10 +1,12 @@
 package com.taehun.board.security.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
@@ -17,9 +19,11 @@ import java.util.concurrent.TimeUnit;
 @Component
 public class TokenProvider {
 
-    @Autowired
-    private RedisTemplate<String, String> redisTemplate;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final TokenRevocationRegistry revocationRegistry;
     private final Key key;
+    private final JwtParser jwtParser; // 불변·스레드 안전하므로 한 번만 생성
+    private final Cache<String, VerifiedToken> verifiedTokens; // 검증된 토큰 -> (username, 만료시각)
 
     @Value("${jwt.token-validity-in-seconds}")
     private long tokenValidity;
@@ -27,9 +31,36 @@ public class TokenProvider {
     @Value("${jwt.refresh-token-validity-in-seconds}")
     private long refreshTokenValidity;
 
-    public TokenProvider(@Value("${jwt.secret}") String secret) {
+    public TokenProvider(RedisTemplate<String, String> redisTemplate,
+                         TokenRevocationRegistry revocationRegistry,
+                         @Value("${jwt.secret}") String secret,
+                         @Value("${jwt.verified-cache-size:10000}") long verifiedCacheSize) {
+        this.redisTemplate = redisTemplate;
+        this.revocationRegistry = revocationRegistry;
         byte[] keyBytes = Decoders.BASE64.decode(secret);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    // 토큰 만료 시각에 캐시에서도 제거
+                    @Override
+                    public long expireAfterCreate(String token, VerifiedToken verified, long currentTime) {
+                        long remainingMillis = verified.getExpiration().getTime() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String token, VerifiedToken verified, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String token, VerifiedToken verified, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
     }
 
     public String generateToken(String username, boolean isRefreshToken) {
@@ -60,41 +91,48 @@ public class TokenProvider {
     }
 
     public void blacklistAccessToken(String token, long expiration) {
-        redisTemplate.opsForValue().set("blacklist:" + token, "true", expiration, TimeUnit.MILLISECONDS);
+        revocationRegistry.revoke(token, expiration);
     }
 
     public boolean isBlacklisted(String token) {
-        return redisTemplate.hasKey("blacklist:" + token);
+        return revocationRegistry.isRevoked(token); // 로컬 레지스트리 조회 (Redis 왕복 없음)
     }
 
-    public boolean validateToken(String token) {
+    // 토큰 검증 (유효하지 않으면 null, 만료 시 ExpiredJwtException)
+    public VerifiedToken verifyToken(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
+            return parseToken(token);
         } catch (ExpiredJwtException e) {
             log.warn("Token expired: {}", token, e);
             throw e;
         } catch (JwtException e) {
             log.error("Invalid token: {}", token, e);
-            return false;
+            return null;
         }
     }
 
+    public boolean validateToken(String token) {
+        return verifyToken(token) != null;
+    }
+
     public String getUsernameFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return parseToken(token).getUsername();
     }
 
     public Date getExpirationFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getExpiration();
+        return parseToken(token).getExpiration();
+    }
+
+    // 한 번 검증된 토큰은 만료 전까지 캐시에서 바로 반환 (HMAC 서명 재검증 생략)
+    private VerifiedToken parseToken(String token) {
+        VerifiedToken cached = verifiedTokens.getIfPresent(token);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+        VerifiedToken verified = new VerifiedToken(claims.getSubject(), claims.getExpiration());
+        verifiedTokens.put(token, verified);
+        return verified;
     }
 }
@@ -0,0 +1,169 @@
+package com.taehun.board.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그아웃된(폐기된) 액세스 토큰 레지스트리
+ * - 요청마다 Redis를 조회하지 않도록 폐기 토큰을 노드 로컬 캐시에 보관하고, 토큰 만료 시각에 항목별로 제거한다.
+ *   (크기 제한으로 밀려나면 폐기된 토큰이 다시 통과하므로 최대 크기는 두지 않음, 항목 수는 액세스 토큰 수명으로 제한됨)
+ * - 폐기 이벤트는 Redis pub/sub으로 전파하며, 유실 대비로 주기적으로 Redis의 blacklist 키와 재동기화한다.
+ *   blacklist 키의 값은 만료 시각(ms)이라 키마다 TTL을 조회하지 않고 MGET으로 한 번에 읽는다.
+ */
+@Slf4j
+@Component
+public class TokenRevocationRegistry implements MessageListener {
+
+    public static final String CHANNEL = "token:revoked";
+    private static final String KEY_PREFIX = "blacklist:";
+    private static final String DELIMITER = ":";
+    private static final int SYNC_BATCH_SIZE = 1000;
+
+    private final StringRedisTemplate redisTemplate;
+    private final Cache<String, Long> revokedTokens; // 토큰 -> 만료 시각(ms)
+
+    public TokenRevocationRegistry(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+        this.revokedTokens = Caffeine.newBuilder()
+                .expireAfter(new Expiry<String, Long>() {
+                    // 토큰 만료 시각에 캐시에서도 제거
+                    @Override
+                    public long expireAfterCreate(String token, Long expiresAt, long currentTime) {
+                        return remainingNanos(expiresAt);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String token, Long expiresAt, long currentTime, long currentDuration) {
+                        return remainingNanos(expiresAt);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String token, Long expiresAt, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    private static long remainingNanos(long expiresAt) {
+        return TimeUnit.MILLISECONDS.toNanos(Math.max(expiresAt - System.currentTimeMillis(), 0));
+    }
+
+    // 토큰 폐기 (Redis 저장 후 다른 노드에 전파)
+    public void revoke(String token, long expirationMillis) {
+        if (expirationMillis <= 0) {
+            return; // 이미 만료된 토큰은 폐기할 필요 없음
+        }
+        long expiresAt = System.currentTimeMillis() + expirationMillis;
+        revokedTokens.put(token, expiresAt);
+        redisTemplate.opsForValue().set(KEY_PREFIX + token, String.valueOf(expiresAt), expirationMillis, TimeUnit.MILLISECONDS);
+        redisTemplate.convertAndSend(CHANNEL, expiresAt + DELIMITER + token);
+    }
+
+    // 폐기 여부 확인 (네트워크 I/O 없음)
+    public boolean isRevoked(String token) {
+        return revokedTokens.getIfPresent(token) != null; // 만료된 항목은 반환되지 않음
+    }
+
+    // 다른 노드에서 전파된 폐기 이벤트 수신
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int index = body.indexOf(DELIMITER);
+        if (index < 0) {
+            log.warn("잘못된 토큰 폐기 메시지: {}", body);
+            return;
+        }
+        try {
+            revokedTokens.put(body.substring(index + 1), Long.parseLong(body.substring(0, index)));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 토큰 폐기 메시지: {}", body); // 만료 시각이 숫자가 아님
+        }
+    }
+
+    // 기동 시 Redis에 저장된 폐기 토큰 적재
+    @PostConstruct
+    public void init() {
+        try {
+            synchronizeFromRedis();
+        } catch (Exception e) {
+            log.warn("폐기 토큰 초기 적재 실패", e);
+        }
+    }
+
+    // pub/sub 유실 대비 재동기화 (만료 항목 제거는 캐시가 담당)
+    @Scheduled(fixedDelayString = "${jwt.revocation-sync-interval-ms:300000}")
+    public void refresh() {
+        synchronizeFromRedis();
+    }
+
+    private void synchronizeFromRedis() {
+        List<String> keys = redisTemplate.execute((RedisCallback<List<String>>) connection -> {
+            List<String> found = new ArrayList<>();
+            ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(SYNC_BATCH_SIZE).build();
+            try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+                cursor.forEachRemaining(key -> found.add(new String(key, StandardCharsets.UTF_8)));
+            }
+            return found;
+        });
+        if (keys == null) {
+            return;
+        }
+
+        for (int from = 0; from < keys.size(); from += SYNC_BATCH_SIZE) {
+            List<String> batch = keys.subList(from, Math.min(from + SYNC_BATCH_SIZE, keys.size()));
+            List<String> values = redisTemplate.opsForValue().multiGet(batch);
+            if (values == null) {
+                continue;
+            }
+
+            List<String> legacyKeys = new ArrayList<>();
+            for (int i = 0; i < batch.size(); i++) {
+                String value = values.get(i);
+                if (value == null) {
+                    continue; // SCAN 이후 만료됨
+                }
+                try {
+                    revokedTokens.put(batch.get(i).substring(KEY_PREFIX.length()), Long.parseLong(value));
+                } catch (NumberFormatException e) {
+                    legacyKeys.add(batch.get(i)); // 만료 시각 대신 "true"가 저장된 이전 형식
+                }
+            }
+            if (!legacyKeys.isEmpty()) {
+                synchronizeLegacyKeys(legacyKeys);
+            }
+        }
+        log.debug("폐기 토큰 동기화 완료: count={}", revokedTokens.estimatedSize());
+    }
+
+    // 이전 형식 키는 TTL을 파이프라인으로 한 번에 조회
+    private void synchronizeLegacyKeys(List<String> keys) {
+        List<Object> ttls = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            keys.forEach(key -> connection.keyCommands().pTtl(key.getBytes(StandardCharsets.UTF_8)));
+            return null;
+        });
+
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < keys.size(); i++) {
+            if (ttls.get(i) instanceof Long ttlMillis && ttlMillis > 0) {
+                revokedTokens.put(keys.get(i).substring(KEY_PREFIX.length()), now + ttlMillis);
+            }
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.taehun.board.security.jwt;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Date;
+
+// 서명 검증이 끝난 토큰 정보
+@Getter
+@AllArgsConstructor
+public class VerifiedToken {
+    private final String username; // 토큰 subject
+    private final Date expiration; // 만료 시각
+}
@@ -0,0 +1,67 @@
+package com.taehun.board.service;
+
+import com.taehun.board.dto.AttachmentDto;
+import com.taehun.board.dto.StoredFileDto;
+import com.taehun.board.repository.AttachmentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 첨부 파일 메타데이터
+ * - 게시글 생성 시 배치 INSERT 한 번으로 저장하고, 목록 페이지에서는 IN 조회 한 번으로 가져온다.
+ */
+@Service
+@RequiredArgsConstructor
+public class AttachmentService {
+
+    private static final String INSERT_SQL = "INSERT INTO attachment (post_id, object_key, size, content_type, width, height, checksum, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, NOW())";
+
+    private final AttachmentRepository attachmentRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final S3Service s3Service;
+    private final ThumbnailService thumbnailService;
+
+    // 첨부 파일 일괄 저장 (호출한 트랜잭션에 참여)
+    public void saveAll(Long postId, List<StoredFileDto> files) {
+        if (files.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, files, files.size(), (ps, file) -> {
+            ps.setLong(1, postId);
+            ps.setString(2, file.getKey());
+            ps.setLong(3, file.getSize());
+            ps.setString(4, file.getContentType());
+            ps.setObject(5, file.getWidth());
+            ps.setObject(6, file.getHeight());
+            ps.setString(7, file.getETag() != null ? file.getETag().replace("\"", "") : null);
+        });
+    }
+
+    // 게시글 하나의 첨부 파일 조회
+    public List<AttachmentDto> getAttachments(Long postId) {
+        return getAttachmentsByPostIds(List.of(postId)).getOrDefault(postId, List.of());
+    }
+
+    // 여러 게시글의 첨부 파일을 한 번의 쿼리로 조회 (게시글 ID -> 첨부 파일 목록)
+    public Map<Long, List<AttachmentDto>> getAttachmentsByPostIds(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Map.of();
+        }
+        return attachmentRepository.findDtosByPostIds(postIds).stream()
+                .peek(attachment -> {
+                    attachment.setUrl(s3Service.getPublicUrl(attachment.getKey()));
+                    if (ThumbnailService.isImage(attachment.getContentType())) {
+                        attachment.setThumbnailUrls(thumbnailService.getThumbnailUrls(
+                                attachment.getKey(), Boolean.TRUE.equals(attachment.getThumbnailsReady()), attachment.getUrl()));
+                    }
+                })
+                .collect(Collectors.groupingBy(AttachmentDto::getPostId, Collectors.toList()));
+    }
+}
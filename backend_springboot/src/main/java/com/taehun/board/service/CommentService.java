@@ -1,39 +1,63 @@
 package com.taehun.board.service;
 
 import com.taehun.board.dto.CommentDto;
+import com.taehun.board.dto.CursorResponseDto;
 import com.taehun.board.dto.PageResponseDto;
-import com.taehun.board.dto.UserDto;
 import com.taehun.board.entity.Comment;
-import com.taehun.board.entity.Post;
 import com.taehun.board.entity.User;
 import com.taehun.board.repository.CommentRepository;
 import com.taehun.board.repository.PostRepository;
 import com.taehun.board.repository.UserRepository;
+import com.taehun.board.util.Cursor;
+import com.taehun.board.util.IdRanges;
+import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.util.stream.Collectors;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class CommentService {
 
+    private static final int PATH_SEGMENT_LENGTH = 12; // 경로 세그먼트 길이 (ID를 0으로 채워 문자열 정렬 = 숫자 정렬)
+
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
+    private final PostCacheService postCacheService;
+    private final UserStatsService userStatsService;
+    private final RedisLockService redisLockService;
+
+    @Value("${board.comments.reconcile-chunk-size:1000}")
+    private long reconcileChunkSize;
+
+    @Value("${board.jobs.lock-ttl-seconds:1800}")
+    private long jobLockTtlSeconds; // 재계산 작업 락 유지 시간 (작업이 끝나면 바로 해제)
+
+    @Value("${board.comments.max-depth:10}")
+    private int maxDepth; // 최대 답글 깊이 (path 컬럼 길이 255 이내)
 
     // 게시글의 댓글 조회
     public PageResponseDto<CommentDto> getCommentsByPost(Long postId, Pageable pageable) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다."));
-        Page<Comment> commentPage = commentRepository.findByPostOrderByCreatedAtDesc(post, pageable);
+        Page<CommentDto> commentPage = commentRepository.findPageByPostId(postId, pageable);
+        if (commentPage.isEmpty()) {
+            checkPostExists(postId); // 댓글이 없을 때만 게시글 존재 여부 확인
+        }
 
         return PageResponseDto.<CommentDto>builder()
-                .content(commentPage.getContent().stream()
-                        .map(this::convertToDto)
-                        .collect(Collectors.toList()))
+                .content(commentPage.getContent())
                 .currentPage(commentPage.getNumber())
                 .totalPages(commentPage.getTotalPages())
                 .totalElements(commentPage.getTotalElements())
@@ -42,30 +66,122 @@ public class CommentService {
                 .build();
     }
 
-    // 댓글 작성
+    // 게시글의 댓글 커서 조회
+    public CursorResponseDto<CommentDto> getCommentFeed(Long postId, String cursor, int size) {
+        Cursor decoded = Cursor.decode(cursor);
+        Slice<CommentDto> commentSlice = commentRepository.findFeedByPostId(postId, decoded.getCreatedAt(), decoded.getId(), PageRequest.of(0, size));
+
+        List<CommentDto> comments = commentSlice.getContent();
+        if (comments.isEmpty()) {
+            checkPostExists(postId);
+        }
+
+        String nextCursor = null;
+        if (commentSlice.hasNext()) {
+            CommentDto last = comments.get(comments.size() - 1);
+            nextCursor = Cursor.encode(last.getCreatedAt(), last.getId());
+        }
+
+        return CursorResponseDto.<CommentDto>builder()
+                .content(comments)
+                .nextCursor(nextCursor)
+                .hasNext(commentSlice.hasNext())
+                .build();
+    }
+
+    // 스레드 답글 조회 (하위 트리를 경로 순으로 커서 페이징)
+    public CursorResponseDto<CommentDto> getThread(Long postId, Long commentId, String cursor, int size) {
+        Comment root = commentRepository.findById(commentId)
+                .filter(comment -> comment.getPost().getId().equals(postId))
+                .orElseThrow(() -> new RuntimeException("댓글을 찾을 수 없습니다."));
+
+        String afterPath = cursor == null || cursor.isBlank() ? root.getPath() : decodePathCursor(cursor);
+        Slice<CommentDto> replySlice = commentRepository.findThread(postId, root.getPath() + "%", afterPath, PageRequest.of(0, size));
+
+        String nextCursor = null;
+        if (replySlice.hasNext()) {
+            CommentDto last = replySlice.getContent().get(replySlice.getContent().size() - 1);
+            nextCursor = encodePathCursor(last.getPath());
+        }
+
+        return CursorResponseDto.<CommentDto>builder()
+                .content(replySlice.getContent())
+                .nextCursor(nextCursor)
+                .hasNext(replySlice.hasNext())
+                .build();
+    }
+
+    // 댓글 작성 (parentId가 있으면 답글, 게시글의 댓글 수를 함께 증가)
+    @Transactional
     public void addComment(CommentDto commentDto, String username) {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-        Post post = postRepository.findById(commentDto.getPostId())
-                .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다."));
+        Long postId = commentDto.getPostId();
+
+        Comment parent = null;
+        if (commentDto.getParentId() != null) {
+            parent = commentRepository.findById(commentDto.getParentId())
+                    .orElseThrow(() -> new RuntimeException("부모 댓글을 찾을 수 없습니다."));
+            if (!parent.getPost().getId().equals(postId)) {
+                throw new RuntimeException("다른 게시글의 댓글에는 답글을 달 수 없습니다.");
+            }
+            if (parent.getDepth() >= maxDepth) {
+                throw new RuntimeException("더 이상 답글을 달 수 없습니다.");
+            }
+        }
+
+        if (postRepository.incrementCommentCount(postId) == 0) { // 갱신된 행이 없으면 게시글이 없는 것
+            throw new RuntimeException("게시글을 찾을 수 없습니다.");
+        }
 
+        String parentPath = parent != null ? parent.getPath() : "";
         Comment comment = Comment.builder()
                 .content(commentDto.getContent())
                 .writer(user)
-                .post(post)
+                .post(postRepository.getReferenceById(postId))
+                .parentId(parent != null ? parent.getId() : null)
+                .depth(parent != null ? parent.getDepth() + 1 : 0)
+                .path(parentPath)
                 .build();
 
         commentRepository.save(comment);
+        comment.setPath(parentPath + toPathSegment(comment.getId())); // ID 생성 후 자신의 세그먼트 추가 (커밋 시 반영)
+        userStatsService.onCommentsChanged(postId, 1);
+        postCacheService.evict(postId);
     }
 
-    // 댓글 삭제 (물리적 삭제)
+    // 댓글 삭제 (본인 댓글만, 다른 사용자의 답글은 삭제하지 않음)
+    // 답글이 없으면 행을 삭제하고 댓글 수를 감소, 답글이 있으면 내용만 지우고 자리를 남김 (행이 남으므로 댓글 수 유지)
+    @Transactional
     public void deleteComment(Long commentId, String username) {
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new RuntimeException("댓글을 찾을 수 없습니다."));
         if (!comment.getWriter().getUsername().equals(username)) {
             throw new RuntimeException("댓글 삭제 권한이 없습니다.");
         }
-        commentRepository.delete(comment);
+        if (comment.getDeleted()) {
+            throw new RuntimeException("이미 삭제된 댓글입니다.");
+        }
+
+        Long postId = comment.getPost().getId();
+        if (commentRepository.hasReplies(postId, comment.getPath() + "%", comment.getPath())) {
+            comment.markDeleted(); // 변경 감지로 커밋 시 반영
+        } else {
+            commentRepository.delete(comment);
+            postRepository.decrementCommentCount(postId, 1);
+            userStatsService.onCommentsChanged(postId, -1);
+        }
+        postCacheService.evict(postId);
+    }
+
+    // 비정규화된 댓글 수를 comment 기준으로 구간별 재계산 (한 노드에서만 실행)
+    @Scheduled(cron = "${board.comments.reconcile-cron:0 40 4 * * *}")
+    public void reconcileCommentCounts() {
+        redisLockService.runExclusively("reconcile-comments", Duration.ofSeconds(jobLockTtlSeconds), () -> {
+            long maxId = postRepository.findMaxId();
+            long updated = IdRanges.forEachChunk(maxId, reconcileChunkSize, postRepository::reconcileCommentCounts);
+            log.info("댓글 수 재계산 완료: maxId={}, updatedRows={}", maxId, updated);
+        });
     }
 
     // 사용자의 댓글 수 조회
@@ -75,17 +191,25 @@ public class CommentService {
         return commentRepository.countByWriter(user);
     }
 
-    // Comment 엔티티를 CommentDto로 변환
-    private CommentDto convertToDto(Comment comment) {
-        return CommentDto.builder()
-                .id(comment.getId())
-                .content(comment.getContent())
-                .writer(UserDto.builder()
-                        .username(comment.getWriter().getUsername())
-                        .email(comment.getWriter().getEmail())
-                        .build())
-                .postId(comment.getPost().getId())
-                .createdAt(comment.getCreatedAt())
-                .build();
+    static String toPathSegment(Long id) {
+        return String.format("%0" + PATH_SEGMENT_LENGTH + "d/", id);
+    }
+
+    private static String encodePathCursor(String path) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(path.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodePathCursor(String cursor) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("잘못된 커서입니다.");
+        }
+    }
+
+    private void checkPostExists(Long postId) {
+        if (!postRepository.existsById(postId)) {
+            throw new RuntimeException("게시글을 찾을 수 없습니다.");
+        }
     }
 }
@@ -0,0 +1,63 @@
+package com.taehun.board.service;
+
+import com.taehun.board.entity.User;
+import com.taehun.board.repository.PostLikeRepository;
+import com.taehun.board.repository.PostRepository;
+import com.taehun.board.repository.UserRepository;
+import com.taehun.board.util.IdRanges;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LikeService {
+
+    private final PostLikeRepository postLikeRepository;
+    private final PostRepository postRepository;
+    private final UserRepository userRepository;
+    private final PostCacheService postCacheService;
+    private final UserStatsService userStatsService;
+    private final RedisLockService redisLockService;
+
+    @Value("${board.likes.reconcile-chunk-size:1000}")
+    private long reconcileChunkSize;
+
+    @Value("${board.jobs.lock-ttl-seconds:1800}")
+    private long jobLockTtlSeconds; // 재계산 작업 락 유지 시간 (작업이 끝나면 바로 해제)
+
+    // 좋아요 추가 (사용자당 1회, 중복 요청은 무시)
+    @Transactional
+    public boolean like(Long postId, String username) {
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+
+        if (postLikeRepository.insertIgnore(postId, user.getId()) == 0) {
+            if (!postRepository.existsById(postId)) {
+                throw new RuntimeException("게시글을 찾을 수 없습니다.");
+            }
+            return false; // 이미 좋아요를 누른 게시글
+        }
+
+        postRepository.incrementLikes(postId);
+        userStatsService.onPostLiked(postId);
+        postCacheService.evict(postId);
+        return true;
+    }
+
+    // 비정규화된 좋아요 수를 post_like 기준으로 구간별 재계산 (한 노드에서만 실행)
+    @Scheduled(cron = "${board.likes.reconcile-cron:0 30 4 * * *}")
+    public void reconcileLikeCounts() {
+        redisLockService.runExclusively("reconcile-likes", Duration.ofSeconds(jobLockTtlSeconds), () -> {
+            long maxId = postRepository.findMaxId();
+            long updated = IdRanges.forEachChunk(maxId, reconcileChunkSize, postRepository::reconcileLikes);
+            log.info("좋아요 수 재계산 완료: maxId={}, updatedRows={}", maxId, updated);
+        });
+    }
+}
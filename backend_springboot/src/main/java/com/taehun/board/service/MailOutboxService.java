@@ -0,0 +1,249 @@
+package com.taehun.board.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taehun.board.dto.MailJobDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 메일 발송 대기열 (Redis 기반 outbox)
+ * - 요청 스레드는 작업을 mail:outbox에 넣고 바로 반환한다.
+ * - 워커는 작업을 mail:outbox:processing으로 옮긴 뒤 묶음 단위로 발송하고, 발송이 끝나면 processing에서 제거한다.
+ *   (묶음 하나는 SMTP 연결 하나로 전송)
+ * - 실패한 작업은 지수 백오프로 mail:outbox:retry(ZSET, score = 재시도 시각)에 넣었다가 시각이 되면 다시 대기열로 옮긴다.
+ */
+@Slf4j
+@Service
+public class MailOutboxService {
+
+    private static final String OUTBOX_KEY = "mail:outbox";
+    private static final String PROCESSING_KEY = "mail:outbox:processing";
+    private static final String RETRY_KEY = "mail:outbox:retry";
+
+    private final JavaMailSender mailSender;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Executor mailExecutor;
+    private final Timer sendTimer;
+    private final Counter sentCounter;
+    private final Counter retryCounter;
+    private final Counter droppedCounter;
+    private final AtomicInteger inFlight = new AtomicInteger(); // 발송 중인 묶음 수
+
+    @Value("${board.mail.batch-size:20}")
+    private int batchSize; // SMTP 연결 하나로 보낼 최대 메일 수
+
+    @Value("${board.mail.workers:2}")
+    private int workers; // 동시에 발송하는 묶음 수
+
+    @Value("${board.mail.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${board.mail.retry-base-ms:2000}")
+    private long retryBaseMs;
+
+    public MailOutboxService(JavaMailSender mailSender,
+                             StringRedisTemplate redisTemplate,
+                             ObjectMapper objectMapper,
+                             Executor mailExecutor,
+                             MeterRegistry meterRegistry) {
+        this.mailSender = mailSender;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.mailExecutor = mailExecutor;
+        this.sendTimer = Timer.builder("board.mail.send")
+                .description("메일 묶음 발송 소요 시간")
+                .register(meterRegistry);
+        this.sentCounter = meterRegistry.counter("board.mail.jobs", "result", "sent");
+        this.retryCounter = meterRegistry.counter("board.mail.jobs", "result", "retry");
+        this.droppedCounter = meterRegistry.counter("board.mail.jobs", "result", "dropped");
+        Gauge.builder("board.mail.outbox.depth", this, MailOutboxService::getQueueDepth)
+                .description("발송 대기 중인 메일 수")
+                .register(meterRegistry);
+    }
+
+    // 발송 작업 등록
+    public void enqueue(MailJobDto job) {
+        redisTemplate.opsForList().leftPush(OUTBOX_KEY, toJson(job));
+    }
+
+    // 이전 실행에서 발송 도중 중단된 작업을 대기열로 되돌림 (드물게 중복 발송될 수 있으나 유실보다 안전)
+    @PostConstruct
+    public void recoverProcessing() {
+        try {
+            int recovered = 0;
+            while (redisTemplate.opsForList().rightPopAndLeftPush(PROCESSING_KEY, OUTBOX_KEY) != null) {
+                recovered++;
+            }
+            if (recovered > 0) {
+                log.info("중단된 메일 작업 복구: count={}", recovered);
+            }
+        } catch (Exception e) {
+            log.warn("메일 작업 복구 실패", e);
+        }
+    }
+
+    // 대기열 처리 (비어 있는 워커 수만큼 묶음을 꺼내 분배)
+    // 발송 완료를 기다리지 않으므로 SMTP 서버가 느려도 스케줄러 스레드를 붙잡지 않는다.
+    @Scheduled(fixedDelayString = "${board.mail.poll-interval-ms:500}")
+    public void drain() {
+        promoteDueRetries();
+
+        while (inFlight.get() < workers) {
+            List<String> batch = claimBatch();
+            if (batch.isEmpty()) {
+                break;
+            }
+            inFlight.incrementAndGet();
+            CompletableFuture.runAsync(() -> sendBatch(batch), mailExecutor)
+                    .whenComplete((result, e) -> {
+                        inFlight.decrementAndGet();
+                        if (e != null) {
+                            log.error("메일 묶음 발송 처리 실패: size={}", batch.size(), e);
+                        }
+                    });
+        }
+    }
+
+    private List<String> claimBatch() {
+        List<String> batch = new ArrayList<>();
+        while (batch.size() < batchSize) {
+            String raw = redisTemplate.opsForList().rightPopAndLeftPush(OUTBOX_KEY, PROCESSING_KEY);
+            if (raw == null) {
+                break;
+            }
+            batch.add(raw);
+        }
+        return batch;
+    }
+
+    private void sendBatch(List<String> batch) {
+        Map<MimeMessage, String> messages = new LinkedHashMap<>();
+        for (String raw : batch) {
+            try {
+                messages.put(toMimeMessage(fromJson(raw)), raw);
+            } catch (Exception e) {
+                log.error("잘못된 메일 작업 폐기: {}", raw, e);
+                droppedCounter.increment();
+                complete(raw);
+            }
+        }
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        Map<Object, Exception> failures = Map.of();
+        Timer.Sample sample = Timer.start();
+        try {
+            mailSender.send(messages.keySet().toArray(new MimeMessage[0])); // 묶음 전체를 하나의 SMTP 연결로 전송
+        } catch (MailSendException e) {
+            failures = e.getFailedMessages().isEmpty() ? allFailed(messages.keySet(), e) : e.getFailedMessages();
+        } catch (Exception e) {
+            failures = allFailed(messages.keySet(), e);
+        } finally {
+            sample.stop(sendTimer);
+        }
+
+        for (Map.Entry<MimeMessage, String> entry : messages.entrySet()) {
+            Exception failure = failures.get(entry.getKey());
+            if (failure == null) {
+                sentCounter.increment();
+            } else {
+                scheduleRetry(entry.getValue(), failure);
+            }
+            complete(entry.getValue());
+        }
+    }
+
+    private void scheduleRetry(String raw, Exception failure) {
+        MailJobDto job = fromJson(raw);
+        int attempts = job.getAttempts() + 1;
+        if (attempts >= maxAttempts) {
+            log.error("메일 발송 최종 실패: to={}, attempts={}", job.getTo(), attempts, failure);
+            droppedCounter.increment();
+            return;
+        }
+
+        long delay = retryBaseMs * (1L << (attempts - 1));
+        redisTemplate.opsForZSet().add(RETRY_KEY, toJson(job.toBuilder().attempts(attempts).build()), System.currentTimeMillis() + delay);
+        retryCounter.increment();
+        log.warn("메일 발송 실패, {}ms 후 재시도: to={}, attempts={}", delay, job.getTo(), attempts);
+    }
+
+    // 재시도 시각이 된 작업을 대기열로 이동
+    private void promoteDueRetries() {
+        Set<String> due = redisTemplate.opsForZSet().rangeByScore(RETRY_KEY, 0, System.currentTimeMillis());
+        if (due == null) {
+            return;
+        }
+        for (String raw : due) {
+            // 여러 인스턴스가 동시에 처리해도 ZSET에서 제거에 성공한 쪽만 옮김
+            Long removed = redisTemplate.opsForZSet().remove(RETRY_KEY, raw);
+            if (removed != null && removed > 0) {
+                redisTemplate.opsForList().leftPush(OUTBOX_KEY, raw);
+            }
+        }
+    }
+
+    private void complete(String raw) {
+        redisTemplate.opsForList().remove(PROCESSING_KEY, 1, raw);
+    }
+
+    private double getQueueDepth() {
+        try {
+            Long size = redisTemplate.opsForList().size(OUTBOX_KEY);
+            return size != null ? size : 0;
+        } catch (Exception e) {
+            return Double.NaN;
+        }
+    }
+
+    private MimeMessage toMimeMessage(MailJobDto job) throws Exception {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, false, "UTF-8");
+        helper.setTo(job.getTo());
+        helper.setSubject(job.getSubject());
+        helper.setText(job.getText(), false);
+        return message;
+    }
+
+    private static Map<Object, Exception> allFailed(Collection<MimeMessage> messages, Exception e) {
+        Map<Object, Exception> failures = new HashMap<>();
+        messages.forEach(message -> failures.put(message, e));
+        return failures;
+    }
+
+    private String toJson(MailJobDto job) {
+        try {
+            return objectMapper.writeValueAsString(job);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("메일 작업 직렬화 실패: " + e.getMessage());
+        }
+    }
+
+    private MailJobDto fromJson(String raw) {
+        try {
+            return objectMapper.readValue(raw, MailJobDto.class);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("메일 작업 역직렬화 실패: " + e.getMessage());
+        }
+    }
+}
@@ -1,21 +1,19 @@
 package com.taehun.board.service;
 
 import com.taehun.board.dto.EmailVerificationDto;
+import com.taehun.board.dto.MailJobDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 
-import jakarta.mail.internet.MimeMessage;
 import java.util.concurrent.TimeUnit;
 
 @Service
 @RequiredArgsConstructor
 public class MailService {
 
-    private final JavaMailSender mailSender;
+    private final MailOutboxService mailOutboxService;
     private final StringRedisTemplate redisTemplate;
 
     @Value("${spring.data.redis.ttl}")
@@ -29,14 +27,15 @@ public class MailService {
         String code = generateCode();
         redisTemplate.opsForValue().set(email, code, verificationCodeTtl, TimeUnit.SECONDS);
 
+        // SMTP 전송은 대기열 워커가 비동기로 처리 (요청 스레드는 SMTP 서버를 기다리지 않음)
         try {
-            MimeMessage message = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, false, "UTF-8");
-            helper.setTo(email);
-            helper.setSubject("이메일 인증 코드");
-            helper.setText("인증번호는 다음과 같습니다: " + code, false);
-            mailSender.send(message);
+            mailOutboxService.enqueue(MailJobDto.builder()
+                    .to(email)
+                    .subject("이메일 인증 코드")
+                    .text("인증번호는 다음과 같습니다: " + code)
+                    .build());
         } catch (Exception e) {
+            redisTemplate.delete(email); // 등록에 실패하면 바로 재요청할 수 있도록 인증번호 삭제
             throw new RuntimeException("이메일 전송 실패: " + e.getMessage());
         }
     }
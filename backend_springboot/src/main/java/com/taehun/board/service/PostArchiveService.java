@@ -0,0 +1,334 @@
+package com.taehun.board.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taehun.board.dto.CommentArchiveDto;
+import com.taehun.board.dto.PostArchiveDto;
+import com.taehun.board.entity.Comment;
+import com.taehun.board.entity.Post;
+import com.taehun.board.entity.Tag;
+import com.taehun.board.entity.User;
+import com.taehun.board.repository.PostRepository;
+import com.taehun.board.repository.PostTypeCountRepository;
+import com.taehun.board.repository.UserRepository;
+import com.taehun.board.repository.UserStatsRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.*;
+
+/**
+ * 게시글 일괄 가져오기/내보내기 (NDJSON, 한 줄에 게시글 하나)
+ * - 가져오기: 스트리밍 파서로 한 줄씩 읽어 청크 단위 트랜잭션으로 저장한다. (JDBC 배치 INSERT)
+ * - 내보내기: 게시글을 PK 구간 단위로 읽고, 댓글은 서버 측 커서로 스트리밍하여 바로 출력한다.
+ * - 어느 쪽이든 메모리에는 청크 하나 분량만 유지한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostArchiveService {
+
+    private static final String POST_CHUNK_SQL = "SELECT p.id, p.title, p.content, p.type, p.is_private, p.is_comments_blocked, " +
+            "p.views, u.username, p.created_at FROM post p JOIN user u ON u.id = p.user_id WHERE p.id > ? ORDER BY p.id LIMIT ?";
+    private static final String COMMENT_STREAM_SQL = "SELECT c.id, c.parent_id, c.post_id, u.username, c.content, c.created_at " +
+            "FROM comment c JOIN user u ON u.id = c.user_id WHERE c.post_id BETWEEN ? AND ? ORDER BY c.post_id, c.path";
+
+    private final PostRepository postRepository;
+    private final UserRepository userRepository;
+    private final PostTypeCountRepository postTypeCountRepository;
+    private final UserStatsRepository userStatsRepository;
+    private final TagService tagService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    @Value("${board.archive.import-chunk-size:500}")
+    private int importChunkSize; // 트랜잭션 하나에 저장하는 게시글 수
+
+    @Value("${board.archive.export-chunk-size:500}")
+    private int exportChunkSize; // 한 번에 읽는 게시글 수
+
+    // NDJSON 게시글 가져오기 (반영된 게시글 수 반환, 실패 시 이전 청크까지는 커밋된 상태)
+    public long importPosts(InputStream inputStream) {
+        long imported = 0;
+        try (JsonParser parser = objectMapper.getFactory().createParser(inputStream)) {
+            List<PostArchiveDto> chunk = new ArrayList<>(importChunkSize);
+            while (parser.nextToken() != null) { // 줄마다 최상위 JSON 객체 하나
+                chunk.add(objectMapper.readValue(parser, PostArchiveDto.class));
+                if (chunk.size() == importChunkSize) {
+                    imported += importChunk(chunk);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                imported += importChunk(chunk);
+            }
+        } catch (IOException | RuntimeException e) {
+            throw new RuntimeException("게시글 가져오기 실패 (" + imported + "건 반영됨): " + e.getMessage(), e);
+        }
+        log.info("게시글 가져오기 완료: imported={}", imported);
+        return imported;
+    }
+
+    // 청크 하나를 한 트랜잭션으로 저장
+    private int importChunk(List<PostArchiveDto> chunk) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<String, User> writers = resolveWriters(chunk);
+            Map<String, Tag> tags = tagService.resolveTagsByName(chunk.stream() // 청크 전체 태그를 한 번에 해석
+                    .map(PostArchiveDto::getTags)
+                    .filter(Objects::nonNull)
+                    .flatMap(List::stream)
+                    .toList());
+            List<Object[]> postCreatedAts = new ArrayList<>();
+            List<Object[]> commentCreatedAts = new ArrayList<>();
+            Map<String, Long> typeCounts = new HashMap<>(); // 유형 -> 가져온 게시글 수
+            Map<Long, long[]> statDeltas = new HashMap<>(); // 작성자 ID -> {게시글 수, 조회수, 댓글 수}
+
+            for (PostArchiveDto dto : chunk) {
+                if (dto.getTitle() == null || dto.getContent() == null) {
+                    throw new RuntimeException("제목과 내용은 필수입니다.");
+                }
+                List<CommentArchiveDto> comments = dto.getComments() != null ? dto.getComments() : List.of();
+                User writer = writers.get(dto.getWriter());
+
+                Post post = Post.builder()
+                        .title(dto.getTitle())
+                        .content(dto.getContent())
+                        .type(dto.getType())
+                        .isPrivate(dto.getIsPrivate())
+                        .isCommentsBlocked(dto.getIsCommentsBlocked())
+                        .views(dto.getViews())
+                        .commentCount(comments.size())
+                        .writer(writer)
+                        .build();
+                if (dto.getTags() != null) {
+                    dto.getTags().stream()
+                            .filter(Objects::nonNull)
+                            .map(name -> tags.get(name.trim())) // 빈 이름은 해석 결과에 없으므로 제외
+                            .filter(Objects::nonNull)
+                            .distinct()
+                            .forEach(post::addTag);
+                }
+                entityManager.persist(post); // ID는 미리 할당된 블록에서 받으므로 INSERT는 flush 시 배치로 전송
+                if (dto.getCreatedAt() != null) {
+                    postCreatedAts.add(new Object[]{Timestamp.valueOf(dto.getCreatedAt()), post.getId()});
+                }
+
+                Map<Long, Comment> importedComments = new HashMap<>(); // 원본 댓글 ID -> 저장한 댓글
+                for (CommentArchiveDto commentDto : comments) {
+                    Comment parent = null;
+                    if (commentDto.getParentId() != null) {
+                        // 부모 댓글은 같은 게시글에서 먼저 나와야 함 (최상위 댓글로 바꿔 저장하지 않음)
+                        parent = importedComments.get(commentDto.getParentId());
+                        if (parent == null) {
+                            throw new RuntimeException("부모 댓글을 찾을 수 없습니다: parentId=" + commentDto.getParentId());
+                        }
+                    }
+                    String parentPath = parent != null ? parent.getPath() : "";
+                    Comment comment = Comment.builder()
+                            .content(commentDto.getContent())
+                            .writer(writers.get(commentDto.getWriter()))
+                            .post(post)
+                            .parentId(parent != null ? parent.getId() : null)
+                            .depth(parent != null ? parent.getDepth() + 1 : 0)
+                            .path(parentPath)
+                            .build();
+                    entityManager.persist(comment);
+                    comment.setPath(parentPath + CommentService.toPathSegment(comment.getId()));
+                    if (commentDto.getId() != null) {
+                        importedComments.put(commentDto.getId(), comment);
+                    }
+                    if (commentDto.getCreatedAt() != null) {
+                        commentCreatedAts.add(new Object[]{Timestamp.valueOf(commentDto.getCreatedAt()), comment.getId()});
+                    }
+                }
+
+                typeCounts.merge(post.getType(), 1L, Long::sum);
+                long[] delta = statDeltas.computeIfAbsent(writer.getId(), id -> new long[3]);
+                delta[0]++;
+                delta[1] += post.getViews();
+                delta[2] += comments.size();
+            }
+            entityManager.flush();
+
+            // 작성일시는 엔티티 생성 시각으로 채워지므로 원본 값으로 덮어씀
+            jdbcTemplate.batchUpdate("UPDATE post SET created_at = ? WHERE id = ?", postCreatedAts);
+            jdbcTemplate.batchUpdate("UPDATE comment SET created_at = ? WHERE id = ?", commentCreatedAts);
+            typeCounts.forEach(postTypeCountRepository::add);
+            statDeltas.forEach((userId, delta) -> userStatsRepository.addPosts(userId, delta[0], delta[1], delta[2]));
+            entityManager.clear(); // 다음 청크를 위해 영속성 컨텍스트 비움
+        });
+        return chunk.size();
+    }
+
+    // 청크에 등장하는 작성자를 한 번에 조회 (없는 사용자가 있으면 예외)
+    private Map<String, User> resolveWriters(List<PostArchiveDto> chunk) {
+        Set<String> usernames = new HashSet<>();
+        for (PostArchiveDto dto : chunk) {
+            usernames.add(dto.getWriter());
+            if (dto.getComments() != null) {
+                dto.getComments().forEach(comment -> usernames.add(comment.getWriter()));
+            }
+        }
+        usernames.remove(null);
+
+        Map<String, User> writers = new HashMap<>();
+        userRepository.findByUsernameIn(usernames).forEach(user -> writers.put(user.getUsername(), user));
+        for (PostArchiveDto dto : chunk) {
+            if (!writers.containsKey(dto.getWriter())
+                    || (dto.getComments() != null && dto.getComments().stream().anyMatch(comment -> !writers.containsKey(comment.getWriter())))) {
+                throw new RuntimeException("존재하지 않는 사용자가 포함되어 있습니다.");
+            }
+        }
+        return writers;
+    }
+
+    // 전체 게시글 내보내기 (NDJSON 스트리밍)
+    public void exportPosts(OutputStream outputStream) {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            long lastId = 0;
+            long exported = 0;
+            while (true) {
+                List<PostArchiveDto> posts = jdbcTemplate.query(POST_CHUNK_SQL, (rs, rowNum) -> PostArchiveDto.builder()
+                        .id(rs.getLong("id"))
+                        .title(rs.getString("title"))
+                        .content(rs.getString("content"))
+                        .type(rs.getString("type"))
+                        .isPrivate(rs.getBoolean("is_private"))
+                        .isCommentsBlocked(rs.getBoolean("is_comments_blocked"))
+                        .views(rs.getInt("views"))
+                        .writer(rs.getString("username"))
+                        .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+                        .build(), lastId, exportChunkSize);
+                if (posts.isEmpty()) {
+                    break;
+                }
+
+                Map<Long, List<String>> tags = new HashMap<>();
+                postRepository.findTagNamesByPostIds(posts.stream().map(PostArchiveDto::getId).toList())
+                        .forEach(view -> tags.computeIfAbsent(view.getPostId(), id -> new ArrayList<>()).add(view.getName()));
+
+                new ChunkWriter(generator, posts, tags).write();
+                generator.flush();
+
+                lastId = posts.get(posts.size() - 1).getId();
+                exported += posts.size();
+            }
+            log.info("게시글 내보내기 완료: exported={}", exported);
+        } catch (IOException | UncheckedIOException e) {
+            throw new RuntimeException("게시글 내보내기 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 게시글 청크 하나를 출력
+     * - 청크 구간의 댓글을 (post_id, path) 순서로 스트리밍하며, 댓글의 게시글이 바뀔 때마다 앞선 게시글을 닫는다.
+ * - ID는 노드별 블록으로 발급되므로 청크 조회 이후 구간 안에 게시글이 추가될 수 있고, 청크에 없는 게시글의 댓글은 건너뛴다.
+     * - 댓글을 게시글별로 모아두지 않으므로 댓글이 많은 게시글도 메모리를 더 쓰지 않는다.
+     */
+    private class ChunkWriter {
+        private final JsonGenerator generator;
+        private final List<PostArchiveDto> posts;
+        private final Map<Long, List<String>> tags;
+        private int next; // 아직 닫지 않은 첫 게시글 위치
+        private boolean open; // posts[next]의 comments 배열을 출력 중인지
+
+        ChunkWriter(JsonGenerator generator, List<PostArchiveDto> posts, Map<Long, List<String>> tags) {
+            this.generator = generator;
+            this.posts = posts;
+            this.tags = tags;
+        }
+
+        void write() throws IOException {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement ps = connection.prepareStatement(COMMENT_STREAM_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(Integer.MIN_VALUE); // MySQL 드라이버가 결과를 한 행씩 스트리밍
+                ps.setLong(1, posts.get(0).getId());
+                ps.setLong(2, posts.get(posts.size() - 1).getId());
+                return ps;
+            }, this::writeComment);
+
+            while (next < posts.size()) {
+                closePost();
+            }
+        }
+
+        private void writeComment(ResultSet rs) throws SQLException {
+            long postId = rs.getLong("post_id");
+            try {
+                while (next < posts.size() && posts.get(next).getId() < postId) {
+                    closePost();
+                }
+                if (next == posts.size() || posts.get(next).getId() != postId) {
+                    // 청크 조회 이후 이미 읽은 ID 구간에 추가된 게시글의 댓글 (게시글이 출력 대상이 아니므로 건너뜀)
+                    return;
+                }
+                if (!open) {
+                    openPost(posts.get(next));
+                }
+                long parentId = rs.getLong("parent_id");
+                boolean topLevel = rs.wasNull();
+                generator.writeStartObject();
+                generator.writeNumberField("id", rs.getLong("id"));
+                if (!topLevel) {
+                    generator.writeNumberField("parentId", parentId);
+                }
+                generator.writeStringField("writer", rs.getString("username"));
+                generator.writeStringField("content", rs.getString("content"));
+                generator.writeStringField("createdAt", rs.getTimestamp("created_at").toLocalDateTime().toString());
+                generator.writeEndObject();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        // 게시글 필드를 출력하고 comments 배열을 연다
+        private void openPost(PostArchiveDto post) throws IOException {
+            generator.writeStartObject();
+            generator.writeNumberField("id", post.getId());
+            generator.writeStringField("title", post.getTitle());
+            generator.writeStringField("content", post.getContent());
+            generator.writeStringField("type", post.getType());
+            generator.writeBooleanField("isPrivate", post.getIsPrivate());
+            generator.writeBooleanField("isCommentsBlocked", post.getIsCommentsBlocked());
+            generator.writeNumberField("views", post.getViews());
+            generator.writeStringField("writer", post.getWriter());
+            generator.writeStringField("createdAt", post.getCreatedAt().toString());
+            generator.writeArrayFieldStart("tags");
+            for (String tag : tags.getOrDefault(post.getId(), List.of())) {
+                generator.writeString(tag);
+            }
+            generator.writeEndArray();
+            generator.writeArrayFieldStart("comments");
+            open = true;
+        }
+
+        // 현재 게시글을 닫고 다음 게시글로 이동 (댓글이 없던 게시글은 빈 배열로 출력)
+        private void closePost() throws IOException {
+            if (!open) {
+                openPost(posts.get(next));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+            open = false;
+            next++;
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.taehun.board.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taehun.board.dto.PostDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 상세 read-through 캐시
+ * - L1: 노드 로컬 Caffeine 캐시 (짧은 TTL, 키 단위 로딩 동기화로 노드 내 캐시 스탬피드 방지)
+ * - L2: Redis (노드 간 공유, 미스 시 SETNX 락으로 동시 DB 조회를 한 번으로 제한)
+ * - 무효화는 트랜잭션 안에서 호출되면 커밋 후에 수행한다. (커밋 전에 비우면 그 사이 조회가 이전 값을 다시 캐시함)
+ * - 락은 RedisLockService 사용 (고유 토큰 값 + Lua 비교 후 삭제)
+ */
+@Slf4j
+@Service
+public class PostCacheService {
+
+    private static final String KEY_PREFIX = "post:";
+    private static final String LOCK_PREFIX = "post:lock:";
+    private static final Duration LOCK_TTL = Duration.ofSeconds(3);
+    private static final int LOCK_WAIT_RETRIES = 10;
+    private static final long LOCK_WAIT_MILLIS = 50;
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisLockService redisLockService;
+    private final ObjectMapper objectMapper;
+    private final Cache<Long, PostDto> localCache;
+    private final Duration redisTtl;
+
+    private final Counter localHits;
+    private final Counter redisHits;
+    private final Counter misses;
+
+    public PostCacheService(StringRedisTemplate redisTemplate,
+                            RedisLockService redisLockService,
+                            ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry,
+                            @Value("${board.cache.post.local-ttl-seconds:5}") long localTtlSeconds,
+                            @Value("${board.cache.post.local-max-size:10000}") long localMaxSize,
+                            @Value("${board.cache.post.redis-ttl-seconds:300}") long redisTtlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.redisLockService = redisLockService;
+        this.objectMapper = objectMapper;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .build();
+        this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+
+        this.localHits = Counter.builder("board.cache.post").tag("result", "local_hit").register(meterRegistry);
+        this.redisHits = Counter.builder("board.cache.post").tag("result", "redis_hit").register(meterRegistry);
+        this.misses = Counter.builder("board.cache.post").tag("result", "miss").register(meterRegistry);
+    }
+
+    // 캐시 조회 (없으면 loader로 로딩 후 저장)
+    public PostDto get(Long postId, Supplier<PostDto> loader) {
+        PostDto cached = localCache.getIfPresent(postId);
+        if (cached != null) {
+            localHits.increment();
+            return cached;
+        }
+        return localCache.get(postId, id -> loadFromRedis(id, loader));
+    }
+
+    // 캐시 무효화 (트랜잭션 안이면 커밋 후)
+    public void evict(Long postId) {
+        afterCommit(() -> evictNow(postId));
+    }
+
+    // 여러 게시글 캐시 일괄 무효화 (트랜잭션 안이면 커밋 후)
+    public void evictAll(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+        afterCommit(() -> evictAllNow(postIds));
+    }
+
+    // 트랜잭션 안이면 커밋된 뒤에 실행 (롤백 시 DB 값이 그대로이므로 무효화 불필요)
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private void evictNow(Long postId) {
+        localCache.invalidate(postId);
+        try {
+            redisTemplate.delete(KEY_PREFIX + postId);
+        } catch (Exception e) {
+            log.warn("게시글 캐시 삭제 실패: postId={}", postId, e);
+        }
+    }
+
+    private void evictAllNow(Collection<Long> postIds) {
+        localCache.invalidateAll(postIds);
+        try {
+            redisTemplate.delete(postIds.stream().map(id -> KEY_PREFIX + id).toList());
+        } catch (Exception e) {
+            log.warn("게시글 캐시 일괄 삭제 실패: count={}", postIds.size(), e);
+        }
+    }
+
+    private PostDto loadFromRedis(Long postId, Supplier<PostDto> loader) {
+        PostDto cached = readRedis(postId);
+        if (cached != null) {
+            redisHits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        String lockKey = LOCK_PREFIX + postId;
+        String owner = UUID.randomUUID().toString();
+        boolean locked = tryLock(lockKey, owner);
+        try {
+            if (!locked) {
+                cached = awaitLoadedByOther(postId);
+                if (cached != null) {
+                    return cached;
+                }
+            }
+
+            PostDto loaded = loader.get();
+            writeRedis(postId, loaded);
+            return loaded;
+        } finally {
+            if (locked) {
+                redisLockService.unlock(lockKey, owner);
+            }
+        }
+    }
+
+    // 다른 노드가 로딩 중이면 잠시 기다렸다가 Redis에서 다시 읽음 (시간 초과·인터럽트 시 null)
+    private PostDto awaitLoadedByOther(Long postId) {
+        try {
+            for (int i = 0; i < LOCK_WAIT_RETRIES; i++) {
+                Thread.sleep(LOCK_WAIT_MILLIS);
+                PostDto cached = readRedis(postId);
+                if (cached != null) {
+                    return cached;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+
+    private PostDto readRedis(Long postId) {
+        try {
+            String json = redisTemplate.opsForValue().get(KEY_PREFIX + postId);
+            return json != null ? objectMapper.readValue(json, PostDto.class) : null;
+        } catch (Exception e) {
+            log.warn("게시글 캐시 조회 실패: postId={}", postId, e);
+            return null;
+        }
+    }
+
+    private void writeRedis(Long postId, PostDto postDto) {
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + postId, objectMapper.writeValueAsString(postDto), redisTtl);
+        } catch (Exception e) {
+            log.warn("게시글 캐시 저장 실패: postId={}", postId, e);
+        }
+    }
+
+    private boolean tryLock(String lockKey, String owner) {
+        try {
+            return redisLockService.tryLock(lockKey, owner, LOCK_TTL);
+        } catch (Exception e) {
+            // Redis 장애 시에는 대기하지 않고 바로 DB에서 로딩
+            log.warn("게시글 캐시 락 획득 실패: key={}", lockKey, e);
+            return true;
+        }
+    }
+}
@@ -1,34 +1,83 @@
 package com.taehun.board.service;
 
+import com.taehun.board.dto.AttachmentDto;
+import com.taehun.board.dto.CursorResponseDto;
 import com.taehun.board.dto.PageResponseDto;
 import com.taehun.board.dto.PostDto;
+import com.taehun.board.dto.PostSummaryDto;
+import com.taehun.board.dto.PostTagView;
+import com.taehun.board.dto.StoredFileDto;
 import com.taehun.board.dto.UserDto;
 import com.taehun.board.entity.Post;
+import com.taehun.board.entity.PostTypeCount;
 import com.taehun.board.entity.Tag;
 import com.taehun.board.entity.User;
 import com.taehun.board.repository.PostRepository;
+import com.taehun.board.repository.PostTypeCountRepository;
 import com.taehun.board.repository.UserRepository;
+import com.taehun.board.util.Cursor;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
-
+import java.util.Map;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class PostService {
 
+    private static final int NGRAM_TOKEN_SIZE = 2; // MySQL ngram_token_size 기본값
+    private static final Pattern FULLTEXT_OPERATORS = Pattern.compile("[+\\-<>()~*\"@]");
+
     private final PostRepository postRepository;
+    private final PostTypeCountRepository postTypeCountRepository;
     private final UserRepository userRepository;
     private final S3Service s3Service;
+    private final ViewCountService viewCountService;
+    private final LikeService likeService;
+    private final PostCacheService postCacheService;
+    private final TagService tagService;
+    private final StagedUploadService stagedUploadService;
+    private final AttachmentService attachmentService;
+    private final ThumbnailService thumbnailService;
+    private final UserStatsService userStatsService;
+    private final TransactionTemplate transactionTemplate;
 
     // 게시글 생성 (파일 업로드 포함)
     public void createPostWithFiles(PostDto postDto, List<MultipartFile> files, String username) {
+        // 클라이언트가 S3에 직접 올린 파일은 키만 확인 (파일 바이트를 서버가 중계하지 않음)
+        List<StoredFileDto> stagedFiles = stagedUploadService.claim(postDto.getAttachmentKeys(), username);
+
+        // 멀티파트로 전달된 파일은 DB 트랜잭션 밖에서 병렬 업로드 (업로드 동안 DB 커넥션을 점유하지 않음)
+        List<StoredFileDto> uploadedFiles = s3Service.uploadFiles(files);
+
+        List<StoredFileDto> storedFiles = new ArrayList<>(stagedFiles);
+        storedFiles.addAll(uploadedFiles);
+        try {
+            transactionTemplate.executeWithoutResult(status -> savePost(postDto, storedFiles, username));
+        } catch (RuntimeException e) {
+            s3Service.deleteFiles(uploadedFiles); // 게시글 저장 실패 시 업로드된 파일 정리 (사전 업로드 파일은 재시도를 위해 유지)
+            throw e;
+        }
+        stagedUploadService.complete(stagedFiles);
+        thumbnailService.generateAsync(storedFiles); // 커밋 후 썸네일 생성 (응답 지연 없음)
+    }
+
+    private void savePost(PostDto postDto, List<StoredFileDto> storedFiles, String username) {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
 
@@ -41,97 +90,117 @@ public class PostService {
                 .writer(user)
                 .build();
 
-        // 태그 추가
-        postDto.getTags().forEach(tagName -> {
-            Tag tag = Tag.builder().name(tagName).build();
-            post.addTag(tag);
-        });
+        // 태그 추가 (기존 태그 재사용, 없는 태그는 일괄 생성)
+        tagService.resolveTags(postDto.getTags()).forEach(post::addTag);
 
-        // 파일 업로드 처리
-        if (files != null && !files.isEmpty()) {
-            StringBuilder filePaths = new StringBuilder();
-            files.forEach(file -> {
-                try {
-                    String fileUrl = s3Service.uploadFile(file.getInputStream(), file.getOriginalFilename(), file.getContentType());
-                    filePaths.append(fileUrl).append(";"); // 파일 경로를 세미콜론(;)으로 구분
-                } catch (Exception e) {
-                    throw new RuntimeException("파일 업로드 중 오류가 발생했습니다.", e);
-                }
-            });
-            post.setFilePath(filePaths.toString()); // 전체 파일 경로 저장
-        }
+        postRepository.saveAndFlush(post); // 아래 JDBC 첨부 파일 INSERT가 게시글 행을 참조하므로 먼저 반영
+        postTypeCountRepository.increment(post.getType());
+        userStatsService.onPostCreated(user.getId());
 
-        postRepository.save(post);
+        // 첨부 파일 메타데이터 일괄 저장
+        attachmentService.saveAll(post.getId(), storedFiles);
     }
 
     // 게시글 목록 조회 (비공개 제외)
-    public PageResponseDto<PostDto> getPosts(Pageable pageable) {
-        Page<Post> postPage = postRepository.findAllByIsPrivateFalse(pageable);
+    public PageResponseDto<PostSummaryDto> getPosts(Pageable pageable) {
+        Page<PostSummaryDto> posts = postRepository.findPublicSummaries(pageable);
+        return convertToPageResponse(posts);
+    }
 
-        return PageResponseDto.<PostDto>builder()
-                .content(postPage.getContent().stream().map(this::convertToDto).toList())
-                .currentPage(postPage.getNumber())
-                .totalPages(postPage.getTotalPages())
-                .totalElements(postPage.getTotalElements())
-                .isFirst(postPage.isFirst())
-                .isLast(postPage.isLast())
-                .build();
+    // 게시글 목록 커서 조회 (비공개 제외)
+    public CursorResponseDto<PostSummaryDto> getPostFeed(String cursor, int size) {
+        Cursor decoded = Cursor.decode(cursor);
+        Slice<PostSummaryDto> posts = postRepository.findPublicFeed(decoded.getCreatedAtAsDate(), decoded.getId(), PageRequest.of(0, size));
+        return convertToCursorResponse(posts);
     }
 
-    // 특정 게시글 조회
+    // 특정 게시글 조회 (캐시 우선)
     public PostDto getPostById(Long id) {
-        Post post = postRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다."));
-        return convertToDto(post);
+        PostDto postDto = postCacheService.get(id, () -> convertToDto(postRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다."))));
+        return postDto.toBuilder()
+                .views(postDto.getViews() + (int) viewCountService.getPendingViews(id)) // 아직 반영되지 않은 조회수 포함
+                .build();
     }
 
-    // 조회수 증가
+    // 조회수 증가 (메모리에 누적 후 주기적으로 일괄 반영)
     public void incrementViews(Long id) {
-        Post post = postRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다."));
-        post.incrementViews();
-        postRepository.save(post);
+        viewCountService.increment(id);
     }
 
-    // 좋아요 증가
-    public void likePost(Long id) {
-        Post post = postRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다."));
-        post.incrementLikes();
-        postRepository.save(post);
+    // 좋아요 증가 (사용자당 1회)
+    public void likePost(Long id, String username) {
+        likeService.like(id, username);
     }
 
     // 게시글 삭제
     public void deletePost(Long id) {
         Post post = postRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다."));
-        postRepository.delete(post); // 연관 댓글도 함께 삭제
+        List<AttachmentDto> attachments = attachmentService.getAttachments(id);
+        // 게시글 삭제와 카운터 감소를 한 트랜잭션으로 반영
+        transactionTemplate.executeWithoutResult(status -> {
+            postRepository.delete(post); // 연관 댓글도 함께 삭제 (첨부 파일 행은 FK ON DELETE CASCADE)
+            postTypeCountRepository.decrement(post.getType());
+            userStatsService.onPostDeleted(post.getWriter().getId(), post.getViews(), post.getLikes(), post.getCommentCount());
+        });
+        postCacheService.evict(id);
+
+        // 게시글이 삭제된 뒤 S3 객체 정리
+        s3Service.deleteFiles(attachments.stream()
+                .flatMap(attachment -> Stream.concat(Stream.of(attachment.getKey()), thumbnailService.getThumbnailKeys(attachment.getKey()).stream()))
+                .map(key -> StoredFileDto.builder().key(key).build())
+                .toList());
     }
 
-    // 게시글 개수 조회
+    // 게시글 개수 조회 (유형별 카운터 테이블 조회, post 테이블을 스캔하지 않음)
     public long getPostCount(String type) {
         if ("all".equalsIgnoreCase(type)) {
-            return postRepository.count(); // 모든 게시글 개수
+            return postTypeCountRepository.sumAll(); // 모든 게시글 개수
         }
-        return postRepository.countByType(type); // 특정 유형의 게시글 개수
+        return postTypeCountRepository.findById(type)
+                .map(PostTypeCount::getPostCount)
+                .orElse(0L); // 특정 유형의 게시글 개수
+    }
+
+    // 유형별 게시글 수를 post 테이블 기준으로 재계산
+    @Scheduled(cron = "${board.posts.type-count-reconcile-cron:0 0 5 * * *}")
+    public void reconcilePostTypeCounts() {
+        int updated = postTypeCountRepository.reconcile() + postTypeCountRepository.resetMissing();
+        log.info("유형별 게시글 수 재계산 완료: updatedRows={}", updated);
     }
 
-    // 키워드 검색
-    public PageResponseDto<PostDto> searchPosts(String keyword, Pageable pageable) {
-        Page<Post> posts = postRepository.findByTitleContainingOrContentContaining(keyword, keyword, pageable);
+    // 키워드 검색 (전문 검색 인덱스 사용, 관련도 순)
+    public PageResponseDto<PostSummaryDto> searchPosts(String keyword, Pageable pageable) {
+        String query = toFullTextQuery(keyword);
+        Page<PostSummaryDto> posts = query != null
+                ? postRepository.fullTextSearch(query, pageable).map(PostSummaryDto::from)
+                : postRepository.searchSummaries(keyword, pageable);
         return convertToPageResponse(posts);
     }
 
+    // 키워드 검색 (커서 기반)
+    public CursorResponseDto<PostSummaryDto> searchPostFeed(String keyword, String cursor, int size) {
+        Cursor decoded = Cursor.decode(cursor);
+        String query = toFullTextQuery(keyword);
+        Slice<PostSummaryDto> posts = query != null
+                ? postRepository.fullTextSearchFeed(query, decoded.getCreatedAtAsDate(), decoded.getId(), PageRequest.of(0, size)).map(PostSummaryDto::from)
+                : postRepository.searchFeed(keyword, decoded.getCreatedAtAsDate(), decoded.getId(), PageRequest.of(0, size));
+        return convertToCursorResponse(posts);
+    }
+
     // 태그 검색
-    public PageResponseDto<PostDto> searchPostsByTag(String tag, Pageable pageable) {
-        Page<Post> posts = postRepository.findByTagsName(tag, pageable);
+    public PageResponseDto<PostSummaryDto> searchPostsByTag(String tag, Pageable pageable) {
+        Page<PostSummaryDto> posts = postRepository.findSummariesByTagName(tag, pageable);
         return convertToPageResponse(posts);
     }
 
     // Page 객체를 PageResponseDto로 변환
-    private PageResponseDto<PostDto> convertToPageResponse(Page<Post> postPage) {
-        return PageResponseDto.<PostDto>builder()
-                .content(postPage.getContent().stream().map(this::convertToDto).toList())
+    private PageResponseDto<PostSummaryDto> convertToPageResponse(Page<PostSummaryDto> postPage) {
+        fillTags(postPage.getContent());
+        fillAttachments(postPage.getContent());
+        return PageResponseDto.<PostSummaryDto>builder()
+                .content(postPage.getContent())
                 .currentPage(postPage.getNumber())
                 .totalPages(postPage.getTotalPages())
                 .totalElements(postPage.getTotalElements())
@@ -140,6 +209,56 @@ public class PostService {
                 .build();
     }
 
+    // Slice 객체를 CursorResponseDto로 변환
+    private CursorResponseDto<PostSummaryDto> convertToCursorResponse(Slice<PostSummaryDto> postSlice) {
+        List<PostSummaryDto> posts = postSlice.getContent();
+        fillTags(posts);
+        fillAttachments(posts);
+
+        String nextCursor = null;
+        if (postSlice.hasNext()) {
+            PostSummaryDto last = posts.get(posts.size() - 1);
+            nextCursor = Cursor.encode(last.getCreatedAt(), last.getId());
+        }
+
+        return CursorResponseDto.<PostSummaryDto>builder()
+                .content(posts)
+                .nextCursor(nextCursor)
+                .hasNext(postSlice.hasNext())
+                .build();
+    }
+
+    // 키워드를 BOOLEAN MODE 구문 검색어로 변환 (ngram 토큰보다 짧으면 null → LIKE 검색으로 대체)
+    private String toFullTextQuery(String keyword) {
+        String sanitized = FULLTEXT_OPERATORS.matcher(keyword).replaceAll(" ").trim();
+        if (sanitized.length() < NGRAM_TOKEN_SIZE) {
+            return null;
+        }
+        return "\"" + sanitized + "\"";
+    }
+
+    // 목록 페이지 게시글들의 태그를 한 번의 쿼리로 채움
+    private void fillTags(List<PostSummaryDto> posts) {
+        if (posts.isEmpty()) {
+            return;
+        }
+
+        Map<Long, List<String>> tagsByPostId = postRepository.findTagNamesByPostIds(posts.stream().map(PostSummaryDto::getId).toList())
+                .stream()
+                .collect(Collectors.groupingBy(PostTagView::getPostId, Collectors.mapping(PostTagView::getName, Collectors.toList())));
+        posts.forEach(post -> post.setTags(tagsByPostId.getOrDefault(post.getId(), List.of())));
+    }
+
+    // 목록 페이지 게시글들의 첨부 파일을 한 번의 쿼리로 채움
+    private void fillAttachments(List<PostSummaryDto> posts) {
+        if (posts.isEmpty()) {
+            return;
+        }
+
+        Map<Long, List<AttachmentDto>> attachmentsByPostId = attachmentService.getAttachmentsByPostIds(posts.stream().map(PostSummaryDto::getId).toList());
+        posts.forEach(post -> post.setAttachments(attachmentsByPostId.getOrDefault(post.getId(), List.of())));
+    }
+
     // Post 엔티티를 PostDto로 변환
     private PostDto convertToDto(Post post) {
         return PostDto.builder()
@@ -151,8 +270,10 @@ public class PostService {
                         UserDto.builder().username(post.getWriter().getUsername()).build() :
                         UserDto.builder().username("작성자 없음").build())
                 .tags(post.getTags() != null ? post.getTags().stream().map(Tag::getName).toList() : List.of())
+                .attachments(attachmentService.getAttachments(post.getId()))
                 .likes(post.getLikes() != null ? post.getLikes() : 0)
                 .views(post.getViews() != null ? post.getViews() : 0)
+                .commentCount(post.getCommentCount() != null ? post.getCommentCount() : 0)
                 .isPrivate(post.getIsPrivate())
                 .isCommentsBlocked(post.getIsCommentsBlocked())
                 .createdAt(post.getCreatedAt().toInstant().atZone(ZoneId.systemDefault()).toLocalDateTime())
@@ -0,0 +1,63 @@
+package com.taehun.board.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Redis SETNX 기반 노드 간 락
+ * - 락 값은 획득한 쪽의 고유 토큰이며, TTL 만료 후 다른 노드가 잡은 락을 지우지 않도록 Lua로 비교 후 삭제한다.
+ * - 게시글 캐시 로딩과, 모든 노드에서 같은 시각에 실행되는 @Scheduled 작업을 한 노드에서만 실행하는 데 사용한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RedisLockService {
+
+    private static final String JOB_LOCK_PREFIX = "job:lock:";
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    // 락 획득 시도 (Redis 오류는 호출한 쪽에서 처리)
+    public boolean tryLock(String lockKey, String owner, Duration ttl) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(lockKey, owner, ttl));
+    }
+
+    // 자신이 잡은 락일 때만 삭제
+    public void unlock(String lockKey, String owner) {
+        try {
+            redisTemplate.execute(UNLOCK_SCRIPT, List.of(lockKey), owner);
+        } catch (Exception e) {
+            log.warn("락 해제 실패 (TTL 만료 후 해제됨): key={}", lockKey, e);
+        }
+    }
+
+    // 다른 노드가 실행 중이 아니면 작업 실행 (락을 잡지 못했거나 Redis 오류면 이번 주기는 건너뜀)
+    public void runExclusively(String jobName, Duration ttl, Runnable job) {
+        String lockKey = JOB_LOCK_PREFIX + jobName;
+        String owner = UUID.randomUUID().toString();
+        try {
+            if (!tryLock(lockKey, owner, ttl)) {
+                log.info("다른 노드에서 실행 중이므로 건너뜀: job={}", jobName);
+                return;
+            }
+        } catch (Exception e) {
+            log.error("작업 락 획득 실패로 건너뜀: job={}", jobName, e);
+            return;
+        }
+        try {
+            job.run();
+        } finally {
+            unlock(lockKey, owner);
+        }
+    }
+}
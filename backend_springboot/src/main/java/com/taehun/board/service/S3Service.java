@@ -1,48 +1,292 @@
 package com.taehun.board.service;
 
+import com.taehun.board.dto.StoredFileDto;
+import com.taehun.board.dto.UploadSlotDto;
+import com.taehun.board.util.ImageUtils;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.*;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class S3Service {
 
     private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucketName;
 
+    @Value("${cloud.aws.s3.endpoint:}")
+    private String endpoint;
+
+    @Value("${cloud.aws.s3.multipart-threshold-bytes:16777216}")
+    private long multipartThreshold; // 이 크기 이상이면 멀티파트 업로드 (기본 16MB)
+
+    @Value("${cloud.aws.s3.multipart-part-size-bytes:8388608}")
+    private int partSize; // 멀티파트 파트 크기 (기본 8MB, S3 최소 5MB)
+
     private final String awsRegion; // 의존성 주입으로 리전 정보 가져옴
+    private final Executor s3UploadExecutor; // 병렬 업로드용 스레드 풀
 
-    public String uploadFile(InputStream inputStream, String fileName, String contentType) {
-        if (!isSupportedFileType(fileName, contentType)) {
-            throw new RuntimeException("지원되지 않는 파일 형식입니다.");
+    // 여러 파일 병렬 업로드 (하나라도 실패하면 업로드된 파일을 정리하고 예외)
+    public List<StoredFileDto> uploadFiles(List<MultipartFile> files) {
+        if (files == null || files.isEmpty()) {
+            return List.of();
+        }
+        files.forEach(file -> validateFileType(file.getOriginalFilename(), file.getContentType())); // 업로드 전에 모두 검사
+
+        List<CompletableFuture<StoredFileDto>> futures = files.stream()
+                .map(file -> CompletableFuture.supplyAsync(() -> uploadFile(file), s3UploadExecutor))
+                .toList();
+
+        List<StoredFileDto> uploaded = new ArrayList<>();
+        RuntimeException failure = null;
+        for (CompletableFuture<StoredFileDto> future : futures) {
+            try {
+                uploaded.add(future.join());
+            } catch (CompletionException e) {
+                failure = e.getCause() instanceof RuntimeException cause ? cause : new RuntimeException(e.getCause());
+            }
+        }
+
+        if (failure != null) {
+            deleteFiles(uploaded);
+            throw new RuntimeException("파일 업로드 중 오류가 발생했습니다.", failure);
+        }
+        return uploaded;
+    }
+
+    public StoredFileDto uploadFile(MultipartFile file) {
+        StoredFileDto stored;
+        try (InputStream inputStream = file.getInputStream()) {
+            stored = uploadFile(inputStream, file.getOriginalFilename(), file.getContentType(), file.getSize());
+        } catch (IOException e) {
+            throw new RuntimeException("파일 업로드 실패: " + e.getMessage());
+        }
+
+        int[] dimensions = readDimensions(file);
+        if (dimensions != null) {
+            stored.setWidth(dimensions[0]);
+            stored.setHeight(dimensions[1]);
+        }
+        return stored;
+    }
+
+    // 이미지 헤더만 읽어 크기 확인 (전체 디코딩 없음)
+    private int[] readDimensions(MultipartFile file) {
+        try (InputStream inputStream = file.getInputStream()) {
+            return ImageUtils.readDimensions(inputStream);
+        } catch (IOException e) {
+            log.debug("이미지 크기 확인 실패: {}", file.getOriginalFilename(), e);
+            return null;
         }
+    }
+
+    public StoredFileDto uploadFile(InputStream inputStream, String fileName, String contentType, long size) {
+        validateFileType(fileName, contentType);
 
         String uniqueFileName = UUID.randomUUID() + "_" + fileName;
 
         try {
-            s3Client.putObject(
-                    PutObjectRequest.builder()
-                            .bucket(bucketName)
-                            .key(uniqueFileName)
-                            .contentType(contentType)
-                            .build(),
-                    software.amazon.awssdk.core.sync.RequestBody.fromInputStream(inputStream, inputStream.available())
-            );
+            String eTag = size >= multipartThreshold
+                    ? multipartUpload(inputStream, uniqueFileName, contentType)
+                    : s3Client.putObject(
+                            PutObjectRequest.builder()
+                                    .bucket(bucketName)
+                                    .key(uniqueFileName)
+                                    .contentType(contentType)
+                                    .contentLength(size)
+                                    .build(),
+                            RequestBody.fromInputStream(inputStream, size) // 실제 파일 크기로 스트리밍
+                    ).eTag();
+
+            return StoredFileDto.builder()
+                    .key(uniqueFileName)
+                    .url(getPublicUrl(uniqueFileName))
+                    .contentType(contentType)
+                    .size(size)
+                    .eTag(eTag)
+                    .build();
         } catch (IOException e) {
             throw new RuntimeException("파일 업로드 실패: " + e.getMessage());
         }
+    }
+
+    // 클라이언트 직접 업로드용 presigned PUT URL 발급 (컨텐츠 타입과 크기를 서명에 포함)
+    public UploadSlotDto presignUpload(String fileName, String contentType, long size, Duration ttl) {
+        validateFileType(fileName, contentType);
+
+        String uniqueFileName = UUID.randomUUID() + "_" + fileName;
+        PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(PutObjectPresignRequest.builder()
+                .signatureDuration(ttl)
+                .putObjectRequest(PutObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(uniqueFileName)
+                        .contentType(contentType)
+                        .contentLength(size)
+                        .build())
+                .build());
+
+        return UploadSlotDto.builder()
+                .key(uniqueFileName)
+                .uploadUrl(presigned.url().toString())
+                .expiresAt(LocalDateTime.ofInstant(presigned.expiration(), ZoneId.systemDefault()))
+                .build();
+    }
+
+    // 업로드 완료된 객체 정보 병렬 조회 (업로드되지 않은 객체가 있으면 예외)
+    public List<StoredFileDto> describeFiles(List<String> keys) {
+        List<CompletableFuture<StoredFileDto>> futures = keys.stream()
+                .map(key -> CompletableFuture.supplyAsync(() -> describeFile(key), s3UploadExecutor))
+                .toList();
+        try {
+            return futures.stream().map(CompletableFuture::join).toList();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : new RuntimeException(e.getCause());
+        }
+    }
+
+    private StoredFileDto describeFile(String key) {
+        try {
+            HeadObjectResponse head = s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .build());
+            return StoredFileDto.builder()
+                    .key(key)
+                    .url(getPublicUrl(key))
+                    .contentType(head.contentType())
+                    .size(head.contentLength())
+                    .eTag(head.eTag())
+                    .build();
+        } catch (NoSuchKeyException e) {
+            throw new RuntimeException("업로드가 완료되지 않은 파일입니다.");
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                throw new RuntimeException("업로드가 완료되지 않은 파일입니다.");
+            }
+            throw e;
+        }
+    }
+
+    // 서버에서 생성한 파생 파일(썸네일 등) 저장
+    public void putObject(String key, byte[] data, String contentType) {
+        s3Client.putObject(
+                PutObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(key)
+                        .contentType(contentType)
+                        .contentLength((long) data.length)
+                        .build(),
+                RequestBody.fromBytes(data)
+        );
+    }
+
+    // 객체 내용 스트림 열기 (메모리에 한 번에 올리지 않음, 일부만 읽을 때는 abort()로 나머지 전송을 중단)
+    public ResponseInputStream<GetObjectResponse> openFile(String key) {
+        return s3Client.getObject(GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .build());
+    }
+
+    // 업로드된 파일 일괄 삭제 (실패는 로그만 남김)
+    public void deleteFiles(Collection<StoredFileDto> files) {
+        if (files.isEmpty()) {
+            return;
+        }
+        List<String> keys = files.stream().map(StoredFileDto::getKey).toList();
+        try {
+            deleteObjects(keys);
+        } catch (Exception e) {
+            log.error("업로드 파일 정리 실패: keys={}", keys, e);
+        }
+    }
 
-        return getPublicUrl(uniqueFileName);
+    // 객체 키로 일괄 삭제 (요청당 최대 1,000개, 실패 시 예외)
+    public void deleteObjects(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        s3Client.deleteObjects(DeleteObjectsRequest.builder()
+                .bucket(bucketName)
+                .delete(Delete.builder()
+                        .objects(keys.stream().map(key -> ObjectIdentifier.builder().key(key).build()).toList())
+                        .build())
+                .build());
+    }
+
+    // 큰 파일은 파트 단위로 나누어 업로드 (메모리에는 파트 하나만 유지)
+    private String multipartUpload(InputStream inputStream, String key, String contentType) throws IOException {
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(contentType)
+                .build()).uploadId();
+
+        try {
+            List<CompletedPart> parts = new ArrayList<>();
+            byte[] buffer = new byte[partSize];
+            int partNumber = 1;
+            int read;
+            while ((read = inputStream.readNBytes(buffer, 0, partSize)) > 0) {
+                String partETag = s3Client.uploadPart(UploadPartRequest.builder()
+                                .bucket(bucketName)
+                                .key(key)
+                                .uploadId(uploadId)
+                                .partNumber(partNumber)
+                                .contentLength((long) read)
+                                .build(),
+                        RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, read), read)).eTag();
+                parts.add(CompletedPart.builder().partNumber(partNumber).eTag(partETag).build());
+                partNumber++;
+            }
+
+            return s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build()).eTag();
+        } catch (IOException | RuntimeException e) {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+            throw e;
+        }
+    }
+
+    private void validateFileType(String fileName, String contentType) {
+        if (fileName == null || !isSupportedFileType(fileName, contentType)) {
+            throw new RuntimeException("지원되지 않는 파일 형식입니다.");
+        }
     }
 
     private boolean isSupportedFileType(String fileName, String contentType) {
@@ -53,7 +297,10 @@ public class S3Service {
         return supportedExtensions.contains(fileExtension) && supportedContentTypes.contains(contentType);
     }
 
-    private String getPublicUrl(String fileName) {
+    public String getPublicUrl(String fileName) {
+        if (!endpoint.isBlank()) {
+            return String.format("%s/%s/%s", endpoint, bucketName, fileName); // 로컬 S3 호환 스토리지 (path-style)
+        }
         return String.format("https://%s.s3.%s.amazonaws.com/%s",
                 bucketName,
                 awsRegion, // 주입된 리전 사용
@@ -61,4 +308,3 @@ public class S3Service {
         );
     }
 }
-
@@ -0,0 +1,118 @@
+package com.taehun.board.service;
+
+import com.taehun.board.dto.StoredFileDto;
+import com.taehun.board.dto.UploadSlotDto;
+import com.taehun.board.dto.UploadSlotRequestDto;
+import com.taehun.board.repository.AttachmentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 사전 업로드(presigned URL) 관리
+ * - 클라이언트가 S3에 직접 업로드하고, 게시글 생성 시에는 발급받은 객체 키만 전달한다.
+ * - 발급한 키의 소유자는 Redis에 TTL과 함께 기록하여 다른 사용자의 업로드를 첨부하지 못하게 한다.
+ * - 발급한 키는 만료 시각을 점수로 Redis sorted set에도 기록하고, 만료 후에도 게시글에 연결되지 않은 객체는 주기적으로 S3에서 삭제한다.
+ *   (작성 중 이탈하거나 게시글 저장이 실패한 뒤 재시도하지 않은 업로드)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StagedUploadService {
+
+    private static final String KEY_PREFIX = "upload:";
+    private static final String PENDING_KEY = "upload:pending"; // 객체 키 -> 정리 가능 시각(ms)
+    private static final Duration SWEEP_GRACE = Duration.ofMinutes(10); // 만료 직전에 시작된 게시글 저장이 끝날 여유
+    private static final int SWEEP_BATCH_SIZE = 1000; // S3 DeleteObjects 최대 개수
+
+    private final S3Service s3Service;
+    private final StringRedisTemplate redisTemplate;
+    private final AttachmentRepository attachmentRepository;
+
+    @Value("${board.uploads.slot-ttl-seconds:3600}")
+    private long slotTtlSeconds;
+
+    @Value("${board.uploads.max-size-bytes:52428800}")
+    private long maxSizeBytes; // 파일당 최대 크기 (기본 50MB)
+
+    // 업로드 슬롯 발급
+    public List<UploadSlotDto> createSlots(List<UploadSlotRequestDto> requests, String username) {
+        Duration ttl = Duration.ofSeconds(slotTtlSeconds);
+        long sweepableAt = System.currentTimeMillis() + ttl.plus(SWEEP_GRACE).toMillis();
+        return requests.stream()
+                .map(request -> {
+                    if (request.getSize() <= 0 || request.getSize() > maxSizeBytes) {
+                        throw new RuntimeException("파일 크기가 허용 범위를 벗어났습니다.");
+                    }
+                    UploadSlotDto slot = s3Service.presignUpload(request.getFileName(), request.getContentType(), request.getSize(), ttl);
+                    redisTemplate.opsForValue().set(KEY_PREFIX + slot.getKey(), username, ttl);
+                    redisTemplate.opsForZSet().add(PENDING_KEY, slot.getKey(), sweepableAt);
+                    return slot;
+                })
+                .toList();
+    }
+
+    // 사전 업로드된 파일 확인 (소유자 및 실제 업로드 여부 검사)
+    public List<StoredFileDto> claim(List<String> keys, String username) {
+        if (keys == null || keys.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> owners = redisTemplate.opsForValue().multiGet(keys.stream().map(key -> KEY_PREFIX + key).toList());
+        for (int i = 0; i < keys.size(); i++) {
+            if (owners == null || !username.equals(owners.get(i))) {
+                throw new RuntimeException("유효하지 않은 업로드 파일입니다.");
+            }
+        }
+        return s3Service.describeFiles(keys);
+    }
+
+    // 게시글에 첨부된 키는 재사용되지 않도록 슬롯 정보 삭제
+    public void complete(List<StoredFileDto> files) {
+        if (files.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.delete(files.stream().map(file -> KEY_PREFIX + file.getKey()).toList());
+            redisTemplate.opsForZSet().remove(PENDING_KEY, files.stream().map(StoredFileDto::getKey).toArray());
+        } catch (Exception e) {
+            log.warn("업로드 슬롯 정리 실패: count={}", files.size(), e); // 정리 작업이 첨부 여부를 다시 확인하므로 객체는 유지됨
+        }
+    }
+
+    // 만료된 슬롯 중 게시글에 연결되지 않은 객체 삭제 (여러 노드에서 동시에 실행되어도 결과는 같음)
+    @Scheduled(fixedDelayString = "${board.uploads.sweep-interval-ms:600000}")
+    public void sweepAbandonedUploads() {
+        long now = System.currentTimeMillis();
+        int deleted = 0;
+        while (true) {
+            Set<String> expired = redisTemplate.opsForZSet().rangeByScore(PENDING_KEY, 0, now, 0, SWEEP_BATCH_SIZE);
+            if (expired == null || expired.isEmpty()) {
+                break;
+            }
+            List<String> keys = new ArrayList<>(expired);
+            Set<String> attached = new HashSet<>(attachmentRepository.findExistingObjectKeys(keys)); // uk_attachment_object_key
+            List<String> abandoned = keys.stream().filter(key -> !attached.contains(key)).toList();
+            try {
+                s3Service.deleteObjects(abandoned);
+            } catch (Exception e) {
+                log.error("미사용 업로드 정리 실패 (다음 주기에 재시도): count={}", abandoned.size(), e);
+                return;
+            }
+            redisTemplate.opsForZSet().remove(PENDING_KEY, keys.toArray());
+            deleted += abandoned.size();
+        }
+        if (deleted > 0) {
+            log.info("미사용 업로드 정리 완료: deleted={}", deleted);
+        }
+    }
+}
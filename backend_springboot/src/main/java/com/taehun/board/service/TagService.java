@@ -0,0 +1,129 @@
+package com.taehun.board.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taehun.board.entity.Tag;
+import com.taehun.board.repository.TagRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+
+/**
+ * 태그 이름 -> ID 해석
+ * - 자주 쓰이는 태그는 로컬 캐시에서 바로 해석하고, 나머지는 IN 조회 한 번 + 배치 INSERT 한 번으로 처리한다.
+ * - 캐시는 트랜잭션 커밋 후에만 채운다. (롤백된 태그 ID가 캐시에 남으면 이후 post_tags INSERT가 FK 오류로 실패)
+ */
+@Service
+public class TagService {
+
+    private static final String UPSERT_SQL = "INSERT INTO tag (name) VALUES (?) ON DUPLICATE KEY UPDATE id = id";
+
+    private final TagRepository tagRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final Cache<String, Long> tagIds; // 태그 이름 -> 태그 ID
+
+    public TagService(TagRepository tagRepository,
+                      JdbcTemplate jdbcTemplate,
+                      @Value("${board.tags.cache-size:10000}") long cacheSize) {
+        this.tagRepository = tagRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.tagIds = Caffeine.newBuilder().maximumSize(cacheSize).build();
+    }
+
+    // 태그 이름 목록을 Tag 참조 목록으로 변환 (없는 태그는 생성)
+    public List<Tag> resolveTags(Collection<String> names) {
+        return resolveIds(names).values().stream()
+                .distinct()
+                .map(tagRepository::getReferenceById) // 프록시 참조만 사용하므로 추가 조회 없음
+                .toList();
+    }
+
+    // 여러 게시글의 태그를 한 번에 변환 (앞뒤 공백을 제거한 이름 -> Tag 참조, 없는 태그는 생성)
+    public Map<String, Tag> resolveTagsByName(Collection<String> names) {
+        Map<Long, Tag> references = new HashMap<>();
+        Map<String, Tag> tags = new LinkedHashMap<>();
+        resolveIds(names).forEach((name, id) -> tags.put(name, references.computeIfAbsent(id, tagRepository::getReferenceById)));
+        return tags;
+    }
+
+    // 태그 이름 -> ID (입력 순서 유지)
+    private Map<String, Long> resolveIds(Collection<String> names) {
+        if (names == null || names.isEmpty()) {
+            return Map.of();
+        }
+
+        Set<String> normalized = new LinkedHashSet<>();
+        names.stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .forEach(normalized::add);
+
+        Map<String, Long> resolved = new HashMap<>();
+        List<String> uncached = new ArrayList<>();
+        for (String name : normalized) {
+            Long id = tagIds.getIfPresent(name);
+            if (id != null) {
+                resolved.put(name, id);
+            } else {
+                uncached.add(name);
+            }
+        }
+
+        if (!uncached.isEmpty()) {
+            Map<String, Long> loaded = new HashMap<>();
+            List<String> missing = lookup(tagRepository.findByNameIn(uncached), uncached, loaded);
+            if (!missing.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPSERT_SQL, missing, missing.size(), (ps, name) -> ps.setString(1, name));
+                // 동시에 같은 태그를 만든 트랜잭션이 있으면 위 INSERT는 아무것도 하지 않고,
+                // 일반 조회는 트랜잭션 시작 시점의 스냅샷을 읽어 그 행을 보지 못하므로 잠금 읽기로 다시 조회
+                missing = lookup(tagRepository.findByNameInForShare(missing), missing, loaded);
+                if (!missing.isEmpty()) {
+                    throw new RuntimeException("태그를 저장하지 못했습니다: " + missing);
+                }
+            }
+            resolved.putAll(loaded);
+            cacheAfterCommit(loaded);
+        }
+
+        Map<String, Long> ids = new LinkedHashMap<>();
+        normalized.forEach(name -> ids.put(name, resolved.get(name)));
+        return ids;
+    }
+
+    // 조회한 태그를 이름으로 매칭해 loaded에 채우고, 찾지 못한 이름 목록을 반환
+    private List<String> lookup(List<Tag> tags, List<String> names, Map<String, Long> loaded) {
+        // 컬럼 collation이 대소문자를 구분하지 않으므로 조회 결과도 대소문자 무시로 매칭
+        Map<String, Long> found = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        tags.forEach(tag -> found.put(tag.getName(), tag.getId()));
+
+        List<String> missing = new ArrayList<>();
+        for (String name : names) {
+            Long id = found.get(name);
+            if (id != null) {
+                loaded.put(name, id);
+            } else {
+                missing.add(name);
+            }
+        }
+        return missing;
+    }
+
+    // 트랜잭션 안이면 커밋된 뒤에 캐시에 반영 (롤백 시 버림)
+    private void cacheAfterCommit(Map<String, Long> loaded) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            tagIds.putAll(loaded);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                tagIds.putAll(loaded);
+            }
+        });
+    }
+}
@@ -0,0 +1,146 @@
+package com.taehun.board.service;
+
+import com.taehun.board.dto.StoredFileDto;
+import com.taehun.board.entity.User;
+import com.taehun.board.repository.AttachmentRepository;
+import com.taehun.board.repository.UserRepository;
+import com.taehun.board.util.ImageUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+import java.util.concurrent.Executor;
+
+/**
+ * 업로드 이미지 썸네일 생성 파이프라인
+ * - 원본 업로드가 끝난 뒤 별도 스레드 풀에서 크기별 썸네일을 만들어 thumbnails/{size}/{원본 키}에 저장한다.
+ * - 생성이 끝나면 attachment.thumbnails_ready / user.profile_thumbnail_url에 기록하고,
+ *   기록이 없으면(생성 전, 크기 초과로 건너뜀, 실패, 기존 데이터) 원본 URL을 대신 내려준다.
+ */
+@Slf4j
+@Service
+public class ThumbnailService {
+
+    private static final String KEY_PREFIX = "thumbnails/";
+
+    private final S3Service s3Service;
+    private final AttachmentRepository attachmentRepository;
+    private final UserRepository userRepository;
+    private final Executor thumbnailExecutor;
+    private final List<Integer> sizes; // 썸네일 긴 변 길이 (px, 오름차순)
+    private final long maxPixels; // 디코딩 허용 최대 픽셀 수 (메모리 보호)
+
+    public ThumbnailService(S3Service s3Service,
+                            AttachmentRepository attachmentRepository,
+                            UserRepository userRepository,
+                            Executor thumbnailExecutor,
+                            @Value("${board.thumbnails.sizes:160,640}") List<Integer> sizes,
+                            @Value("${board.thumbnails.max-pixels:40000000}") long maxPixels) {
+        this.s3Service = s3Service;
+        this.attachmentRepository = attachmentRepository;
+        this.userRepository = userRepository;
+        this.thumbnailExecutor = thumbnailExecutor;
+        this.sizes = sizes.stream().sorted().toList();
+        this.maxPixels = maxPixels;
+    }
+
+    // 첨부 이미지들의 썸네일 생성 요청 (비동기, 첨부 파일 행이 저장된 뒤 호출)
+    public void generateAsync(Collection<StoredFileDto> files) {
+        files.stream()
+                .filter(file -> isImage(file.getContentType()))
+                .forEach(file -> generateAsync(file.getKey(), file.getContentType(),
+                        () -> attachmentRepository.markThumbnailsReady(file.getKey())));
+    }
+
+    // 프로필 이미지의 썸네일 생성 요청 (비동기, 사용자 행이 저장된 뒤 호출)
+    public void generateProfileAsync(Long userId, StoredFileDto file) {
+        generateAsync(file.getKey(), file.getContentType(), () -> userRepository.updateProfileThumbnailUrl(
+                userId, file.getUrl(), s3Service.getPublicUrl(thumbnailKey(sizes.get(0), file.getKey()))));
+    }
+
+    private void generateAsync(String key, String contentType, Runnable onGenerated) {
+        try {
+            thumbnailExecutor.execute(() -> {
+                if (generate(key, contentType)) {
+                    onGenerated.run();
+                }
+            });
+        } catch (TaskRejectedException e) {
+            // 대기열이 가득 찬 경우 원본 URL로 대체되므로 요청은 실패시키지 않음
+            log.warn("썸네일 생성 대기열 초과: key={}", key);
+        }
+    }
+
+    // 크기별 썸네일 URL (긴 변 길이 -> URL, 생성되지 않았으면 모든 크기에 원본 URL)
+    public Map<Integer, String> getThumbnailUrls(String key, boolean generated, String originalUrl) {
+        Map<Integer, String> urls = new LinkedHashMap<>();
+        sizes.forEach(size -> urls.put(size, generated ? s3Service.getPublicUrl(thumbnailKey(size, key)) : originalUrl));
+        return urls;
+    }
+
+    // 프로필 썸네일 URL (생성되지 않았으면 원본 프로필 이미지 URL)
+    public String getProfileThumbnailUrl(User user) {
+        return user.getProfileThumbnailUrl() != null ? user.getProfileThumbnailUrl() : user.getProfileImageUrl();
+    }
+
+    // 썸네일 객체 키 목록 (원본 삭제 시 함께 정리)
+    public List<String> getThumbnailKeys(String key) {
+        return sizes.stream().map(size -> thumbnailKey(size, key)).toList();
+    }
+
+    public static boolean isImage(String contentType) {
+        return "image/jpeg".equals(contentType) || "image/png".equals(contentType);
+    }
+
+    // 썸네일 생성 (모든 크기를 저장했으면 true)
+    private boolean generate(String key, String contentType) {
+        try {
+            // 헤더만 읽고 스트림을 닫아 크기를 먼저 확인 (원본 전체를 내려받지 않음)
+            int[] dimensions;
+            try (ResponseInputStream<GetObjectResponse> header = s3Service.openFile(key)) {
+                dimensions = ImageUtils.readDimensions(header);
+                header.abort(); // 나머지 본문은 받지 않고 연결 종료
+            }
+            if (dimensions == null) {
+                log.warn("이미지가 아닌 파일은 썸네일을 생성하지 않음: key={}", key);
+                return false;
+            }
+            attachmentRepository.updateDimensionsIfMissing(key, dimensions[0], dimensions[1]); // 사전 업로드 파일은 여기서 크기 기록
+            if ((long) dimensions[0] * dimensions[1] > maxPixels) {
+                log.warn("이미지가 너무 커서 썸네일을 생성하지 않음: key={}, size={}x{}", key, dimensions[0], dimensions[1]);
+                return false;
+            }
+
+            BufferedImage image;
+            try (InputStream original = s3Service.openFile(key)) {
+                image = ImageIO.read(original); // 스트림에서 바로 디코딩
+            }
+            if (image == null) {
+                log.warn("이미지를 디코딩하지 못해 썸네일을 생성하지 않음: key={}", key);
+                return false;
+            }
+            boolean png = "image/png".equals(contentType);
+            for (Integer size : sizes) {
+                BufferedImage resized = ImageUtils.resize(image, size, png);
+                s3Service.putObject(thumbnailKey(size, key), ImageUtils.encode(resized, png ? "png" : "jpg"), contentType);
+            }
+            log.debug("썸네일 생성 완료: key={}", key);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.error("썸네일 생성 실패: key={}", key, e);
+            return false;
+        }
+    }
+
+    private static String thumbnailKey(int size, String key) {
+        return KEY_PREFIX + size + "/" + key;
+    }
+}
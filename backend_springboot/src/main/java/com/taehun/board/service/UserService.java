@@ -1,78 +1,140 @@
 package com.taehun.board.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taehun.board.dto.CursorResponseDto;
 import com.taehun.board.dto.LoginRequestDto;
 import com.taehun.board.dto.ResetPasswordDto;
+import com.taehun.board.dto.StoredFileDto;
 import com.taehun.board.dto.UserDto;
-import com.taehun.board.entity.Post;
 import com.taehun.board.entity.User;
-import com.taehun.board.repository.PostRepository;
+import com.taehun.board.entity.UserStats;
 import com.taehun.board.repository.UserRepository;
 import com.taehun.board.security.jwt.TokenProvider;
+import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.InputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class UserService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int EXPORT_FLUSH_SIZE = 500; // 내보내기 시 출력 버퍼를 비우는 행 단위
+
     private final UserRepository userRepository;
-    private final PostRepository postRepository;
     private final PasswordEncoder passwordEncoder;
     private final S3Service s3Service;
     private final TokenProvider tokenProvider;
+    private final ThumbnailService thumbnailService;
+    private final UserStatsService userStatsService;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
 
     // 회원 등록
     public void register(UserDto userDto, MultipartFile profileImage) {
         validateRegistration(userDto);
 
-        String profileImageUrl = uploadProfileImage(profileImage);
+        StoredFileDto profile = uploadProfileImage(profileImage);
 
         User user = User.builder()
                 .username(userDto.getUsername())
                 .email(userDto.getEmail())
                 .password(passwordEncoder.encode(userDto.getPassword()))
-                .profileImageUrl(profileImageUrl)
+                .profileImageUrl(profile != null ? profile.getUrl() : null)
                 .build();
 
         userRepository.save(user);
+        userStatsService.initialize(user.getId());
+        if (profile != null) {
+            thumbnailService.generateProfileAsync(user.getId(), profile); // 아바타용 썸네일 비동기 생성
+        }
+    }
+
+    // 사용자 목록 조회 (ID 기준 키셋 페이징, cursor = 이전 페이지 마지막 사용자 ID)
+    public CursorResponseDto<UserDto> getUsers(String cursor, int size) {
+        long afterId;
+        try {
+            afterId = cursor == null || cursor.isBlank() ? 0L : Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new RuntimeException("잘못된 커서입니다.");
+        }
+
+        Slice<User> users = userRepository.findByIdGreaterThanOrderByIdAsc(afterId, PageRequest.of(0, Math.min(size, MAX_PAGE_SIZE)));
+        List<User> content = users.getContent();
+        return CursorResponseDto.<UserDto>builder()
+                .content(content.stream().map(this::convertToDto).toList())
+                .nextCursor(users.hasNext() ? String.valueOf(content.get(content.size() - 1).getId()) : null)
+                .hasNext(users.hasNext())
+                .build();
     }
 
-    // 프로필 통계 조회
+    // 전체 사용자 NDJSON 내보내기 (행 단위 스트리밍, 사용자 수와 무관하게 일정한 메모리 사용)
+    public void exportUsers(OutputStream outputStream) {
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<User> users = userRepository.streamAll();
+                 JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                int written = 0;
+                for (User user : (Iterable<User>) users::iterator) {
+                    generator.writeStartObject();
+                    generator.writeNumberField("id", user.getId());
+                    generator.writeStringField("username", user.getUsername());
+                    generator.writeStringField("email", user.getEmail());
+                    generator.writeStringField("profileImageUrl", user.getProfileImageUrl());
+                    generator.writeStringField("createdAt", user.getCreatedAt().toString());
+                    generator.writeEndObject();
+                    generator.writeRaw('\n');
+
+                    entityManager.detach(user); // 영속성 컨텍스트에 쌓이지 않도록 분리
+                    if (++written % EXPORT_FLUSH_SIZE == 0) {
+                        generator.flush();
+                    }
+                }
+                generator.flush();
+            } catch (IOException e) {
+                throw new RuntimeException("사용자 내보내기 실패: " + e.getMessage(), e);
+            }
+        });
+    }
+
+    // 프로필 통계 조회 (누적 통계 행 조회, 게시글을 로딩하지 않음)
     public Map<String, Object> getProfileStatistics(String username) {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new RuntimeException("존재하지 않는 사용자입니다."));
-
-        long totalViews = postRepository.findAllByWriter(user).stream()
-                .mapToLong(Post::getViews)
-                .sum();
-
-        long totalPosts = postRepository.countByWriter(user);
+        UserStats stats = userStatsService.getStats(user.getId());
 
         Map<String, Object> statistics = new HashMap<>();
-        statistics.put("totalViews", totalViews);
-        statistics.put("totalPosts", totalPosts);
+        statistics.put("totalViews", stats.getTotalViews());
+        statistics.put("totalPosts", stats.getPostCount());
+        statistics.put("totalLikes", stats.getTotalLikes());
+        statistics.put("totalComments", stats.getTotalComments());
         statistics.put("joinDate", user.getCreatedAt().toString());
 
         return statistics;
     }
 
-    public List<UserDto> getAllUsers() {
-        List<User> users = userRepository.findAll(); // 모든 사용자 엔티티 조회
-        return users.stream()
-                .map(user -> UserDto.builder()
-                        .username(user.getUsername())
-                        .email(user.getEmail())
-                        .profileImageUrl(user.getProfileImageUrl())
-                        .build())
-                .toList(); // 엔티티를 DTO로 변환 후 반환
+    private UserDto convertToDto(User user) {
+        return UserDto.builder()
+                .username(user.getUsername())
+                .email(user.getEmail())
+                .profileImageUrl(user.getProfileImageUrl())
+                .profileThumbnailUrl(thumbnailService.getProfileThumbnailUrl(user))
+                .build();
     }
 
     // 프로필 수정
@@ -90,12 +152,16 @@ public class UserService {
             user.setPassword(passwordEncoder.encode(userDto.getPassword()));
         }
 
-        if (profileImage != null && !profileImage.isEmpty()) {
-            String profileImageUrl = uploadProfileImage(profileImage);
-            user.setProfileImageUrl(profileImageUrl);
+        StoredFileDto profile = uploadProfileImage(profileImage);
+        if (profile != null) {
+            user.setProfileImageUrl(profile.getUrl());
+            user.setProfileThumbnailUrl(null); // 새 이미지의 썸네일이 생성될 때까지 원본 사용
         }
 
         userRepository.save(user);
+        if (profile != null) {
+            thumbnailService.generateProfileAsync(user.getId(), profile); // 아바타용 썸네일 비동기 생성
+        }
     }
 
     @Transactional
@@ -137,7 +203,7 @@ public class UserService {
         }
     }
 
-    private String uploadProfileImage(MultipartFile profileImage) {
+    private StoredFileDto uploadProfileImage(MultipartFile profileImage) {
         if (profileImage == null || profileImage.isEmpty()) {
             return null;
         }
@@ -145,8 +211,8 @@ public class UserService {
             throw new RuntimeException("파일 크기가 10MB를 초과합니다.");
         }
 
-        try (InputStream inputStream = profileImage.getInputStream()) {
-            return s3Service.uploadFile(inputStream, profileImage.getOriginalFilename(), profileImage.getContentType());
+        try {
+            return s3Service.uploadFile(profileImage);
         } catch (Exception e) {
             throw new RuntimeException("프로필 이미지 업로드 실패: " + e.getMessage());
         }
@@ -0,0 +1,91 @@
+package com.taehun.board.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taehun.board.entity.UserStats;
+import com.taehun.board.repository.UserRepository;
+import com.taehun.board.repository.UserStatsRepository;
+import com.taehun.board.util.IdRanges;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+/**
+ * 사용자별 누적 통계
+ * - 쓰기 경로(게시글/댓글/좋아요/조회수 반영)에서 user_stats 행을 SQL 증감으로 갱신하고, 조회는 PK 한 건으로 끝낸다.
+ * - 행이 없으면 post 테이블 SUM으로 생성하고, 주기적으로 전체를 재계산하여 오차를 바로잡는다.
+ * - 프로필 화면용 조회 결과는 짧게 로컬 캐시한다.
+ */
+@Slf4j
+@Service
+public class UserStatsService {
+
+    private final UserStatsRepository userStatsRepository;
+    private final UserRepository userRepository;
+    private final RedisLockService redisLockService;
+    private final Cache<Long, UserStats> statsCache; // 사용자 ID -> 통계
+
+    @Value("${board.stats.rebuild-chunk-size:1000}")
+    private long rebuildChunkSize;
+
+    @Value("${board.jobs.lock-ttl-seconds:1800}")
+    private long jobLockTtlSeconds; // 재계산 작업 락 유지 시간 (작업이 끝나면 바로 해제)
+
+    public UserStatsService(UserStatsRepository userStatsRepository,
+                            UserRepository userRepository,
+                            RedisLockService redisLockService,
+                            @Value("${board.stats.cache-ttl-seconds:30}") long cacheTtlSeconds) {
+        this.userStatsRepository = userStatsRepository;
+        this.userRepository = userRepository;
+        this.redisLockService = redisLockService;
+        this.statsCache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+                .maximumSize(10_000)
+                .build();
+    }
+
+    // 사용자 통계 조회 (캐시 -> user_stats -> SUM 재계산)
+    public UserStats getStats(Long userId) {
+        return statsCache.get(userId, id -> userStatsRepository.findById(id)
+                .orElseGet(() -> {
+                    userStatsRepository.rebuild(id, id);
+                    return userStatsRepository.findById(id)
+                            .orElseThrow(() -> new RuntimeException("존재하지 않는 사용자입니다."));
+                }));
+    }
+
+    // 신규 사용자 통계 행 생성
+    public void initialize(Long userId) {
+        userStatsRepository.rebuild(userId, userId);
+    }
+
+    public void onPostCreated(Long userId) {
+        userStatsRepository.incrementPostCount(userId);
+    }
+
+    public void onPostDeleted(Long userId, long views, long likes, long comments) {
+        userStatsRepository.subtractPost(userId, views, likes, comments);
+    }
+
+    public void onPostLiked(Long postId) {
+        userStatsRepository.incrementLikesByPost(postId);
+    }
+
+    public void onCommentsChanged(Long postId, long delta) {
+        userStatsRepository.addCommentsByPost(postId, delta);
+    }
+
+    // 증분 갱신 중 발생한 오차를 post 테이블 기준으로 구간별 재계산 (한 노드에서만 실행, 다른 노드의 로컬 캐시는 TTL로 만료)
+    @Scheduled(cron = "${board.stats.rebuild-cron:0 50 4 * * *}")
+    public void rebuildAll() {
+        redisLockService.runExclusively("rebuild-user-stats", Duration.ofSeconds(jobLockTtlSeconds), () -> {
+            long maxId = userRepository.findMaxId();
+            long updated = IdRanges.forEachChunk(maxId, rebuildChunkSize, userStatsRepository::rebuild);
+            statsCache.invalidateAll();
+            log.info("사용자 통계 재계산 완료: maxId={}, updatedRows={}", maxId, updated);
+        });
+    }
+}
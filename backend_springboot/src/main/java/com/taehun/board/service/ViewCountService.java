@@ -0,0 +1,108 @@
+package com.taehun.board.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 조회수 write-behind 버퍼
+ * - 조회 요청은 메모리 카운터만 증가시키고, 누적된 증가분을 주기적으로 한 번의 배치 UPDATE로 반영한다.
+ */
+@Slf4j
+@Service
+public class ViewCountService {
+
+    private static final String FLUSH_SQL = "UPDATE post SET views = views + ? WHERE id = ?";
+    private static final String STATS_FLUSH_SQL = "UPDATE user_stats s JOIN post p ON p.user_id = s.user_id " +
+            "SET s.total_views = s.total_views + ? WHERE p.id = ?"; // 작성자 누적 조회수
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PostCacheService postCacheService;
+    private final ConcurrentHashMap<Long, Long> pendingViews = new ConcurrentHashMap<>(); // 게시글 ID -> 반영 대기 중인 증가분
+    private final LongAdder pendingTotal = new LongAdder(); // 반영 대기 중인 전체 증가분 (메트릭용)
+
+    @Value("${board.views.flush-batch-size:500}")
+    private int flushBatchSize;
+
+    public ViewCountService(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                            PostCacheService postCacheService, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.postCacheService = postCacheService;
+        Gauge.builder("board.views.pending", pendingTotal, LongAdder::sum)
+                .description("DB에 아직 반영되지 않은 조회수 증가분")
+                .register(meterRegistry);
+    }
+
+    // 조회수 증가 (메모리에만 누적)
+    public void increment(Long postId) {
+        // merge는 키 단위로 원자적이므로 flush 중 remove와 경합해도 증가분이 유실되지 않는다.
+        pendingViews.merge(postId, 1L, Long::sum);
+        pendingTotal.increment();
+    }
+
+    // 아직 반영되지 않은 조회수 증가분 조회
+    public long getPendingViews(Long postId) {
+        return pendingViews.getOrDefault(postId, 0L);
+    }
+
+    // 누적된 증가분을 배치 UPDATE로 반영
+    @Scheduled(fixedDelayString = "${board.views.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        if (pendingViews.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<Long, Long>> deltas = new ArrayList<>();
+        for (Long postId : pendingViews.keySet()) {
+            Long delta = pendingViews.remove(postId);
+            if (delta != null && delta > 0) {
+                deltas.add(Map.entry(postId, delta));
+            }
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            // 게시글 조회수와 작성자 누적 조회수를 한 트랜잭션으로 반영 (재시도 시 중복 반영 방지)
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(FLUSH_SQL, deltas, flushBatchSize, (ps, entry) -> {
+                    ps.setLong(1, entry.getValue());
+                    ps.setLong(2, entry.getKey());
+                });
+                jdbcTemplate.batchUpdate(STATS_FLUSH_SQL, deltas, flushBatchSize, (ps, entry) -> {
+                    ps.setLong(1, entry.getValue());
+                    ps.setLong(2, entry.getKey());
+                });
+            });
+            deltas.forEach(entry -> pendingTotal.add(-entry.getValue()));
+            // 캐시된 조회수는 반영 전 값이므로 반영된 게시글의 캐시를 비움
+            postCacheService.evictAll(deltas.stream().map(Map.Entry::getKey).toList());
+            log.debug("Flushed view deltas: posts={}", deltas.size());
+        } catch (Exception e) {
+            // 반영 실패 시 증가분을 되돌려 다음 주기에 재시도
+            deltas.forEach(entry -> pendingViews.merge(entry.getKey(), entry.getValue(), Long::sum));
+            log.error("조회수 반영 실패: posts={}", deltas.size(), e);
+        }
+    }
+
+    // 애플리케이션 종료 시 남은 증가분 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,55 @@
+package com.taehun.board.util;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Date;
+
+/**
+ * 키셋(커서) 페이지네이션용 커서
+ * - (created_at, id) 쌍을 URL-safe Base64 문자열로 인코딩하여 클라이언트에는 불투명한 값으로 전달한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class Cursor {
+
+    private static final String DELIMITER = "|";
+    // 첫 페이지 조회 시 사용하는 상한값 (모든 행이 이 값보다 앞선다)
+    private static final Cursor FIRST = new Cursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    // 커서 문자열 해석 (없으면 첫 페이지)
+    public static Cursor decode(String value) {
+        if (value == null || value.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int index = decoded.lastIndexOf(DELIMITER);
+            return new Cursor(LocalDateTime.parse(decoded.substring(0, index)), Long.parseLong(decoded.substring(index + 1)));
+        } catch (RuntimeException e) {
+            throw new RuntimeException("잘못된 커서입니다.");
+        }
+    }
+
+    public static String encode(LocalDateTime createdAt, Long id) {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String encode(Date createdAt, Long id) {
+        Timestamp timestamp = createdAt instanceof Timestamp ts ? ts : new Timestamp(createdAt.getTime());
+        return encode(timestamp.toLocalDateTime(), id);
+    }
+
+    // java.util.Date 컬럼(Post.createdAt) 비교용
+    public Date getCreatedAtAsDate() {
+        return Timestamp.valueOf(createdAt);
+    }
+}
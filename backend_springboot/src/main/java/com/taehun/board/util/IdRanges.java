@@ -0,0 +1,21 @@
+package com.taehun.board.util;
+
+import java.util.function.LongBinaryOperator;
+
+/**
+ * ID 구간 분할 유틸리티 (재계산 배치가 한 번에 잠그는 행 수를 제한)
+ */
+public final class IdRanges {
+
+    private IdRanges() {
+    }
+
+    // 1 ~ maxId를 chunkSize 크기의 [fromId, toId] 구간으로 나눠 순서대로 처리하고, 처리 결과(갱신 행 수)의 합계 반환
+    public static long forEachChunk(long maxId, long chunkSize, LongBinaryOperator chunk) {
+        long total = 0;
+        for (long fromId = 1; fromId <= maxId; fromId += chunkSize) {
+            total += chunk.applyAsLong(fromId, fromId + chunkSize - 1);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,67 @@
+-- 기존 schema.sql 이후 추가된 테이블/컬럼/인덱스 (조회수·좋아요·검색·첨부·스레드 댓글·사용자 통계)
+
+-- Post: 댓글 수 비정규화 컬럼, 커서 조회/전문 검색 인덱스
+ALTER TABLE post
+    ADD COLUMN comment_count INT DEFAULT 0 NOT NULL AFTER views,
+    ADD INDEX idx_post_private_created (is_private, created_at, id), -- 커서 기반 목록 조회
+    ADD INDEX idx_post_created (created_at, id); -- 커서 기반 검색 정렬
+
+ALTER TABLE post
+    ADD FULLTEXT INDEX ft_post_title_content (title, content) WITH PARSER ngram; -- 키워드 전문 검색
+
+UPDATE post p SET p.comment_count = (SELECT COUNT(*) FROM comment c WHERE c.post_id = p.id);
+
+-- Comment: 구체화 경로(답글 트리) 컬럼과 인덱스
+ALTER TABLE comment
+    ADD COLUMN parent_id BIGINT AFTER post_id,
+    ADD COLUMN path VARCHAR(255) AFTER parent_id,
+    ADD COLUMN depth INT DEFAULT 0 NOT NULL AFTER path;
+
+UPDATE comment SET path = CONCAT(LPAD(id, 12, '0'), '/') WHERE path IS NULL; -- 기존 댓글은 모두 최상위 댓글
+
+ALTER TABLE comment
+    MODIFY COLUMN path VARCHAR(255) NOT NULL,
+    ADD INDEX idx_comment_post_created (post_id, depth, created_at, id), -- 최상위 댓글 페이징
+    ADD INDEX idx_comment_post_path (post_id, path); -- 스레드(하위 트리) 범위 조회
+
+-- Post_Like 테이블 생성 (사용자당 게시글 좋아요 1회)
+CREATE TABLE IF NOT EXISTS post_like (
+                                         id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                                         post_id BIGINT NOT NULL,
+                                         user_id BIGINT NOT NULL,
+                                         created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+                                         UNIQUE KEY uk_post_like_post_user (post_id, user_id),
+                                         FOREIGN KEY (post_id) REFERENCES post(id) ON DELETE CASCADE,
+                                         FOREIGN KEY (user_id) REFERENCES user(id) ON DELETE CASCADE
+);
+
+-- User_Stats 테이블 생성 (사용자별 누적 통계, 쓰기 경로에서 증분 갱신)
+CREATE TABLE IF NOT EXISTS user_stats (
+                                          user_id BIGINT PRIMARY KEY,
+                                          post_count BIGINT DEFAULT 0 NOT NULL,
+                                          total_views BIGINT DEFAULT 0 NOT NULL,
+                                          total_likes BIGINT DEFAULT 0 NOT NULL,
+                                          total_comments BIGINT DEFAULT 0 NOT NULL,
+                                          FOREIGN KEY (user_id) REFERENCES user(id) ON DELETE CASCADE
+);
+
+INSERT INTO user_stats (user_id, post_count, total_views, total_likes, total_comments)
+SELECT u.id, COUNT(p.id), COALESCE(SUM(p.views), 0), COALESCE(SUM(p.likes), 0), COALESCE(SUM(p.comment_count), 0)
+FROM user u LEFT JOIN post p ON p.user_id = u.id
+GROUP BY u.id;
+
+-- Attachment 테이블 생성 (게시글 첨부 파일 메타데이터)
+CREATE TABLE IF NOT EXISTS attachment (
+                                          id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                                          post_id BIGINT NOT NULL,
+                                          object_key VARCHAR(512) NOT NULL,
+                                          size BIGINT NOT NULL,
+                                          content_type VARCHAR(100),
+                                          width INT,
+                                          height INT,
+                                          checksum VARCHAR(64),
+                                          created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+                                          UNIQUE KEY uk_attachment_object_key (object_key), -- 고아 객체 판별
+                                          INDEX idx_attachment_post (post_id, id), -- 게시글별 첨부 파일 조회
+                                          FOREIGN KEY (post_id) REFERENCES post(id) ON DELETE CASCADE
+);
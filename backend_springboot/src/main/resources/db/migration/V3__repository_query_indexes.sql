@@ -0,0 +1,13 @@
+-- 리포지토리 쿼리 형태에 맞춘 보조 인덱스 (RepositoryIndexUsageTest에서 EXPLAIN으로 검증)
+
+-- PostRepository.countByType
+ALTER TABLE post ADD INDEX idx_post_type (type);
+
+-- PostRepository.countByWriter (FK 자동 인덱스를 대체)
+ALTER TABLE post ADD INDEX idx_post_user_created (user_id, created_at, id);
+
+-- CommentRepository.countByWriter (FK 자동 인덱스를 대체)
+ALTER TABLE comment ADD INDEX idx_comment_user_created (user_id, created_at, id);
+
+-- PostRepository.findSummariesByTagName (tag.name -> post_tags -> post, PK는 post_id 선두라 역방향 조회용)
+ALTER TABLE post_tags ADD INDEX idx_post_tags_tag (tag_id, post_id);
@@ -0,0 +1,8 @@
+-- Post_Type_Count 테이블 생성 (유형별 게시글 수, 게시글 작성/삭제 시 증분 갱신)
+CREATE TABLE IF NOT EXISTS post_type_count (
+                                               type VARCHAR(50) PRIMARY KEY,
+                                               post_count BIGINT DEFAULT 0 NOT NULL
+);
+
+INSERT INTO post_type_count (type, post_count)
+SELECT type, COUNT(*) FROM post WHERE type IS NOT NULL GROUP BY type;
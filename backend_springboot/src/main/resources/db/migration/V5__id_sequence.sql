@@ -0,0 +1,17 @@
+-- Id_Sequence 테이블 생성 (Post/Comment ID 블록 할당용, allocationSize = 50)
+-- Hibernate가 50개 단위로 ID를 미리 받아 INSERT를 배치로 묶을 수 있도록 IDENTITY 대신 사용한다.
+CREATE TABLE IF NOT EXISTS id_sequence (
+                                           name VARCHAR(50) PRIMARY KEY,
+                                           next_val BIGINT NOT NULL
+);
+
+-- pooled 최적화기는 읽은 값에서 allocationSize - 1을 뺀 값부터 사용하므로 기존 최대 ID보다 충분히 큰 값으로 시작
+INSERT INTO id_sequence (name, next_val) SELECT 'post', COALESCE(MAX(id), 0) + 100 FROM post;
+INSERT INTO id_sequence (name, next_val) SELECT 'comment', COALESCE(MAX(id), 0) + 100 FROM comment;
+
+-- AUTO_INCREMENT 제거: ID 없이 직접 INSERT하면 실패하므로 생성기가 미리 할당한 블록과 충돌할 수 없다.
+-- (참조 중인 FK 컬럼과 타입은 그대로이며, 속성 변경 중 FK 검사만 잠시 끈다)
+SET FOREIGN_KEY_CHECKS = 0;
+ALTER TABLE post MODIFY id BIGINT NOT NULL;
+ALTER TABLE comment MODIFY id BIGINT NOT NULL;
+SET FOREIGN_KEY_CHECKS = 1;
@@ -0,0 +1,7 @@
+-- 썸네일 생성 여부 기록 (생성되지 않은 썸네일 URL을 내려주지 않도록 함)
+ALTER TABLE attachment
+    ADD COLUMN thumbnails_ready BOOLEAN DEFAULT FALSE NOT NULL;
+
+-- 프로필 썸네일 URL (생성 완료 후 기록, 없으면 원본 프로필 이미지 사용)
+ALTER TABLE user
+    ADD COLUMN profile_thumbnail_url VARCHAR(255);
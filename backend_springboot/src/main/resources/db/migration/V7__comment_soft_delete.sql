@@ -0,0 +1,3 @@
+-- 댓글 삭제 표시 (답글이 달린 댓글은 행을 남기고 내용만 지워 다른 사용자의 답글을 보존)
+ALTER TABLE comment
+    ADD COLUMN deleted BOOLEAN DEFAULT FALSE NOT NULL;
@@ -0,0 +1,282 @@
+package com.taehun.board.repository;
+
+import com.taehun.board.entity.Comment;
+import com.taehun.board.entity.Post;
+import com.taehun.board.entity.User;
+import jakarta.persistence.EntityManager;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PostRepository / CommentRepository / PostTypeCountRepository 쿼리의 실행 계획 검증
+ * - 테스트 데이터를 넣고 통계를 갱신한 뒤, 리포지토리 메서드를 실제로 호출해 Hibernate가 만든 SQL을 StatementInspector로 수집한다.
+ * - 수집한 SQL마다 EXPLAIN을 실행해 기대한 인덱스(key)를 쓰는지, 전체 테이블 스캔(type = ALL)과 Using filesort가 없는지 확인한다.
+ *   (정렬 기준이 필터 인덱스와 다른 태그/전문 검색은 filesort를 허용, LIKE '%키워드%' 검색은 ngram 토큰보다 짧은 키워드에만 쓰이는 대체 경로라 검사하지 않음)
+ * - EXPLAIN 바인딩 값은 SQL의 ? 순서대로 적는다 (페이징 limit 포함, Slice는 size + 1). 개수가 다르면 실패한다.
+ */
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class RepositoryIndexUsageTest {
+
+    private static final String PREFIX = "explain_";
+    private static final int USERS = 100;
+    private static final int POSTS = 5000;
+    private static final int TAGS = 20;
+    private static final int COMMENTS_PER_POST = 2;
+    private static final String FULLTEXT_QUERY = "\"explain\"";
+    private static final String THREAD_PATTERN = "000000000000/%";
+
+    @TestConfiguration
+    static class SqlCaptureConfig {
+
+        @Bean
+        SqlCapture sqlCapture() {
+            return new SqlCapture();
+        }
+
+        @Bean
+        HibernatePropertiesCustomizer sqlCaptureCustomizer(SqlCapture sqlCapture) {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlCapture);
+        }
+    }
+
+    // 현재 스레드에서 실행된 SQL만 수집 (스케줄러 등 다른 스레드의 쿼리는 제외)
+    static class SqlCapture implements StatementInspector {
+        private final ThreadLocal<List<String>> captured = new ThreadLocal<>();
+
+        List<String> capture(Runnable call) {
+            captured.set(new ArrayList<>());
+            try {
+                call.run();
+                return captured.get();
+            } finally {
+                captured.remove();
+            }
+        }
+
+        @Override
+        public String inspect(String sql) {
+            List<String> statements = captured.get();
+            if (statements != null) {
+                statements.add(sql);
+            }
+            return sql;
+        }
+    }
+
+    // 수집된 SQL 한 건에 대한 기대값 (key가 null이면 인덱스 이름은 검사하지 않음)
+    private record Expected(String key, boolean filesort, Object[] params) {
+    }
+
+    private static Expected uses(String key, Object... params) {
+        return new Expected(key, false, params);
+    }
+
+    private static Expected usesWithFilesort(String key, Object... params) {
+        return new Expected(key, true, params);
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private SqlCapture sqlCapture;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private PostTypeCountRepository postTypeCountRepository;
+
+    private static long userId;
+    private static List<Long> postIds;
+
+    @BeforeAll
+    void seed() {
+        LocalDateTime now = LocalDateTime.now();
+
+        jdbcTemplate.batchUpdate("INSERT INTO user (username, email, password, created_at, updated_at) VALUES (?, ?, 'x', NOW(), NOW())",
+                IntStream.range(0, USERS).mapToObj(i -> new Object[]{PREFIX + i, PREFIX + i + "@example.com"}).toList());
+        List<Long> userIds = jdbcTemplate.queryForList("SELECT id FROM user WHERE username LIKE ?", Long.class, PREFIX + "%");
+        userId = userIds.get(0);
+
+        // 게시글/댓글 ID는 테이블 생성기로만 발급되므로 JPA로 저장하고, 작성일시만 JDBC로 분산
+        List<Long> postIds = transactionTemplate.execute(status -> {
+            List<Post> posts = new ArrayList<>();
+            for (int i = 0; i < POSTS; i++) {
+                Post post = Post.builder()
+                        .title("explain title " + i)
+                        .content("explain content " + i)
+                        .type(PREFIX + "type" + (i % 5))
+                        .isPrivate(i % 10 == 0)
+                        .writer(entityManager.getReference(User.class, userIds.get(i % userIds.size())))
+                        .build();
+                entityManager.persist(post);
+                posts.add(post);
+            }
+            entityManager.flush();
+            entityManager.clear();
+            return posts.stream().map(Post::getId).toList();
+        });
+        RepositoryIndexUsageTest.postIds = postIds;
+        jdbcTemplate.batchUpdate("UPDATE post SET created_at = ? WHERE id = ?", IntStream.range(0, postIds.size())
+                .mapToObj(i -> new Object[]{Timestamp.valueOf(now.minusMinutes(i)), postIds.get(i)}).toList());
+
+        jdbcTemplate.batchUpdate("INSERT INTO tag (name) VALUES (?)",
+                IntStream.range(0, TAGS).mapToObj(i -> new Object[]{PREFIX + "tag" + i}).toList());
+        List<Long> tagIds = jdbcTemplate.queryForList("SELECT id FROM tag WHERE name LIKE ?", Long.class, PREFIX + "%");
+
+        List<Object[]> postTags = new ArrayList<>();
+        for (int i = 0; i < postIds.size(); i++) {
+            postTags.add(new Object[]{postIds.get(i), tagIds.get(i % tagIds.size())});
+            postTags.add(new Object[]{postIds.get(i), tagIds.get((i + 1) % tagIds.size())});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO post_tags (post_id, tag_id) VALUES (?, ?)", postTags);
+
+        List<Object[]> commentCreatedAts = transactionTemplate.execute(status -> {
+            List<Object[]> createdAts = new ArrayList<>();
+            for (int i = 0; i < postIds.size(); i++) {
+                for (int j = 0; j < COMMENTS_PER_POST; j++) {
+                    Comment comment = Comment.builder()
+                            .content("comment " + j)
+                            .writer(entityManager.getReference(User.class, userIds.get((i + j) % userIds.size())))
+                            .post(entityManager.getReference(Post.class, postIds.get(i)))
+                            .path(String.format("%012d/", i * COMMENTS_PER_POST + j))
+                            .depth(0)
+                            .build();
+                    entityManager.persist(comment);
+                    createdAts.add(new Object[]{Timestamp.valueOf(now.minusMinutes(j)), comment.getId()});
+                }
+            }
+            entityManager.flush();
+            entityManager.clear();
+            return createdAts;
+        });
+        jdbcTemplate.batchUpdate("UPDATE comment SET created_at = ? WHERE id = ?", commentCreatedAts);
+
+        // 옵티마이저가 실제 데이터 분포로 계획을 세우도록 통계 갱신
+        jdbcTemplate.execute("ANALYZE TABLE user, post, tag, post_tags, comment, post_like");
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM user WHERE username LIKE ?", PREFIX + "%"); // 게시글/댓글/태그 연결은 FK CASCADE
+        jdbcTemplate.update("DELETE FROM tag WHERE name LIKE ?", PREFIX + "%");
+        jdbcTemplate.update("DELETE FROM post_type_count WHERE type LIKE ?", PREFIX + "%"); // reconcile 케이스가 만든 집계 행
+    }
+
+    Stream<Arguments> queries() {
+        Timestamp cursor = Timestamp.valueOf(LocalDateTime.now().minusDays(1));
+        String tag = PREFIX + "tag1";
+        long postId = postIds.get(0);
+        User writer = User.builder().id(userId).build();
+        List<Long> tagPostIds = postIds.subList(0, 3);
+        return Stream.of(
+                // PostRepository
+                Arguments.of("findPublicSummaries", call(() -> postRepository.findPublicSummaries(PageRequest.of(0, 10))),
+                        List.of(uses("idx_post_private_created", 10), uses("idx_post_private_created"))),
+                Arguments.of("countByWriter", call(() -> postRepository.countByWriter(writer)),
+                        List.of(uses("idx_post_user_created", userId))),
+                Arguments.of("findSummariesByTagName", call(() -> postRepository.findSummariesByTagName(tag, PageRequest.of(0, 10))),
+                        List.of(usesWithFilesort("idx_post_tags_tag", tag, 10), uses("idx_post_tags_tag", tag))),
+                Arguments.of("findPublicFeed", call(() -> postRepository.findPublicFeed(cursor, Long.MAX_VALUE, PageRequest.of(0, 10))),
+                        List.of(uses("idx_post_private_created", cursor, cursor, Long.MAX_VALUE, 11))),
+                Arguments.of("fullTextSearch", call(() -> postRepository.fullTextSearch(FULLTEXT_QUERY, PageRequest.of(0, 10))),
+                        List.of(usesWithFilesort("ft_post_title_content", FULLTEXT_QUERY, FULLTEXT_QUERY, 10),
+                                uses("ft_post_title_content", FULLTEXT_QUERY))),
+                Arguments.of("fullTextSearchFeed", call(() -> postRepository.fullTextSearchFeed(FULLTEXT_QUERY, cursor, Long.MAX_VALUE, PageRequest.of(0, 10))),
+                        List.of(usesWithFilesort("ft_post_title_content", FULLTEXT_QUERY, cursor, cursor, Long.MAX_VALUE, 11))),
+                Arguments.of("findTagNamesByPostIds", call(() -> postRepository.findTagNamesByPostIds(tagPostIds)),
+                        List.of(uses("PRIMARY", tagPostIds.toArray()))),
+                // MAX(id)는 PK 끝에서 바로 읽어 key가 표시되지 않음 (Select tables optimized away)
+                Arguments.of("findMaxId", call(postRepository::findMaxId), List.of(uses(null))),
+                Arguments.of("incrementLikes", call(() -> postRepository.incrementLikes(postId)), List.of(uses("PRIMARY", postId))),
+                Arguments.of("reconcileLikes", call(() -> postRepository.reconcileLikes(postId, postId + 1000)),
+                        List.of(uses("PRIMARY", postId, postId + 1000))),
+                Arguments.of("incrementCommentCount", call(() -> postRepository.incrementCommentCount(postId)),
+                        List.of(uses("PRIMARY", postId))),
+                Arguments.of("reconcileCommentCounts", call(() -> postRepository.reconcileCommentCounts(postId, postId + 1000)),
+                        List.of(uses("PRIMARY", postId, postId + 1000))),
+                // PostTypeCountRepository
+                Arguments.of("reconcilePostTypeCounts", call(postTypeCountRepository::reconcile), List.of(uses("idx_post_type"))),
+                // CommentRepository (게시글당 댓글이 2개라 size 1로 조회해야 count 쿼리까지 실행됨)
+                Arguments.of("comment.countByWriter", call(() -> commentRepository.countByWriter(writer)),
+                        List.of(uses("idx_comment_user_created", userId))),
+                Arguments.of("findPageByPostId", call(() -> commentRepository.findPageByPostId(postId, PageRequest.of(0, 1))),
+                        List.of(uses("idx_comment_post_created", postId, 1), uses("idx_comment_post_created", postId))),
+                Arguments.of("findFeedByPostId", call(() -> commentRepository.findFeedByPostId(postId, cursor.toLocalDateTime(), Long.MAX_VALUE, PageRequest.of(0, 10))),
+                        List.of(uses("idx_comment_post_created", postId, cursor, cursor, Long.MAX_VALUE, 11))),
+                Arguments.of("findThread", call(() -> commentRepository.findThread(postId, THREAD_PATTERN, "000000000000/", PageRequest.of(0, 20))),
+                        List.of(uses("idx_comment_post_path", postId, THREAD_PATTERN, "000000000000/", 21))),
+                Arguments.of("hasReplies", call(() -> commentRepository.hasReplies(postId, THREAD_PATTERN, "000000000000/")),
+                        List.of(uses("idx_comment_post_path", postId, THREAD_PATTERN, "000000000000/")))
+        );
+    }
+
+    private static Runnable call(Runnable call) {
+        return call;
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("queries")
+    void queryUsesExpectedIndex(String name, Runnable call, List<Expected> expected) {
+        List<String> statements = sqlCapture.capture(() -> transactionTemplate.executeWithoutResult(status -> call.run()));
+        assertThat(statements).as("%s 실행 SQL: %s", name, statements).hasSameSizeAs(expected);
+
+        for (int i = 0; i < statements.size(); i++) {
+            String sql = statements.get(i);
+            Expected expectation = expected.get(i);
+            assertThat(sql.chars().filter(c -> c == '?').count())
+                    .as("%s 바인딩 파라미터 수: %s", name, sql)
+                    .isEqualTo(expectation.params().length);
+
+            List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + sql, expectation.params());
+            assertThat(plan)
+                    .as("%s 실행 계획 (%s): %s", name, sql, plan)
+                    .noneMatch(row -> "ALL".equals(row.get("type")));
+            if (expectation.key() != null) {
+                assertThat(plan)
+                        .as("%s 사용 인덱스 (%s): %s", name, sql, plan)
+                        .anyMatch(row -> expectation.key().equals(row.get("key")));
+            }
+            if (!expectation.filesort()) {
+                assertThat(plan)
+                        .as("%s 정렬 (%s): %s", name, sql, plan)
+                        .noneMatch(row -> String.valueOf(row.get("Extra")).contains("Using filesort"));
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.taehun.board.service;
+
+import com.icegreen.greenmail.configuration.GreenMailConfiguration;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 인증 메일이 요청 스레드가 아닌 대기열 워커를 통해 로컬 SMTP 서버(GreenMail)로 발송되는지 검증
+@SpringBootTest(properties = {
+        "spring.mail.host=127.0.0.1",
+        "spring.mail.port=3025",
+        "spring.mail.username=",
+        "spring.mail.password=",
+        "spring.mail.properties.mail.smtp.auth=false",
+        "spring.mail.properties.mail.smtp.starttls.enable=false",
+        "board.mail.poll-interval-ms=3600000" // 스케줄러 대신 테스트에서 직접 drain 호출
+})
+class MailOutboxServiceTest {
+
+    private static final String EMAIL = "outbox-test@example.com";
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP)
+            .withConfiguration(GreenMailConfiguration.aConfig().withDisabledAuthentication());
+
+    @Autowired
+    private MailService mailService;
+
+    @Autowired
+    private MailOutboxService mailOutboxService;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        redisTemplate.delete(EMAIL);
+    }
+
+    @Test
+    void verificationMailIsDeliveredByOutboxWorker() throws Exception {
+        mailService.sendVerificationCode(EMAIL);
+        assertThat(greenMail.getReceivedMessages()).isEmpty(); // 요청 시점에는 발송하지 않음
+
+        mailOutboxService.drain();
+        assertThat(greenMail.waitForIncomingEmail(5000, 1)).isTrue(); // 워커 스레드에서 비동기로 발송
+
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertThat(received).hasSize(1);
+        assertThat(received[0].getAllRecipients()[0].toString()).isEqualTo(EMAIL);
+        assertThat(received[0].getContent().toString()).contains(redisTemplate.opsForValue().get(EMAIL));
+    }
+}
@@ -0,0 +1,116 @@
+package com.taehun.board.service;
+
+import com.taehun.board.entity.Post;
+import com.taehun.board.entity.User;
+import com.taehun.board.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 10,000건 가져오기 처리량 비교 (./gradlew benchmark 로 실행, 일반 test 태스크에서는 제외)
+ * - before: IDENTITY 전략일 때 Hibernate가 하던 방식 재현 (persist마다 즉시 INSERT, JDBC 배치 없음)
+ *   IDENTITY 컬럼은 제거되었으므로 같은 persist 경로에서 세션 배치 크기 1 + 행마다 flush로 실행한다.
+ * - after: 테이블 생성기(allocationSize 50) + hibernate.jdbc.batch_size 로 JPA persist
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.datasource.hikari.data-source-properties.rewriteBatchedStatements=true" // 애플리케이션 기본값과 동일
+})
+class PostImportBenchmarkTest {
+
+    private static final int POSTS = 10_000;
+    private static final int CHUNK_SIZE = 1_000; // 청크마다 커밋하고 영속성 컨텍스트를 비움
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = userRepository.save(User.builder()
+                .username("bench_writer")
+                .email("bench_writer@test.com")
+                .password("password")
+                .build());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        userRepository.delete(writer); // 게시글은 FK CASCADE
+    }
+
+    @Test
+    void rowByRowInsert() {
+        long started = System.nanoTime();
+        importPosts(false);
+        report("before (IDENTITY-style, insert per persist)", System.nanoTime() - started);
+    }
+
+    @Test
+    void batchedJpaInsert() {
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        long started = System.nanoTime();
+        importPosts(true);
+        report("after (table generator + JDBC batch)", System.nanoTime() - started);
+
+        // 배치가 동작하면 게시글 INSERT는 배치당 한 번만 준비된다 (ID 블록 조회 포함해도 행 수보다 훨씬 적음)
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(POSTS / 10);
+    }
+
+    // 청크마다 트랜잭션 하나로 persist (batched = false면 IDENTITY처럼 행마다 즉시 INSERT)
+    private void importPosts(boolean batched) {
+        for (int chunk = 0; chunk < POSTS; chunk += CHUNK_SIZE) {
+            int from = chunk;
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!batched) {
+                    entityManager.unwrap(Session.class).setJdbcBatchSize(1);
+                }
+                User reference = entityManager.getReference(User.class, writer.getId());
+                for (int i = from; i < from + CHUNK_SIZE; i++) {
+                    entityManager.persist(Post.builder()
+                            .title("bench_title_" + i)
+                            .content("bench_content_" + i)
+                            .writer(reference)
+                            .build());
+                    if (!batched) {
+                        entityManager.flush();
+                    }
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+        }
+    }
+
+    private void report(String label, long elapsedNanos) {
+        Long inserted = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM post WHERE user_id = ?", Long.class, writer.getId());
+        assertThat(inserted).isEqualTo(POSTS);
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        System.out.printf("%s: %d posts in %.2fs (%.0f inserts/sec)%n", label, POSTS, seconds, POSTS / seconds);
+    }
+}
@@ -0,0 +1,153 @@
+package com.taehun.board.service;
+
+import com.taehun.board.entity.Post;
+import com.taehun.board.entity.User;
+import com.taehun.board.repository.PostRepository;
+import com.taehun.board.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 키워드 검색 응답 시간 비교 (./gradlew benchmark 로 실행, 일반 test 태스크에서는 제외)
+ * - 게시글 100만 건(-Dbenchmark.search.posts 로 변경 가능)을 넣고 같은 키워드로 두 경로를 반복 조회한다.
+ * - LIKE: 기존 findByTitleContainingOrContentContaining과 같은 조건(title/content LIKE '%키워드%')인 searchSummaries
+ * - FULLTEXT: searchPosts가 사용하는 fullTextSearch (ngram 인덱스, 관련도 순)
+ * - 드문 키워드(1,000건 중 1건)와 흔한 키워드(단어 사전의 단어)를 각각 측정하고 평균/p99를 출력한다.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.datasource.hikari.data-source-properties.rewriteBatchedStatements=true")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PostSearchBenchmarkTest {
+
+    private static final int POSTS = Integer.getInteger("benchmark.search.posts", 1_000_000);
+    private static final int CHUNK_SIZE = 10_000;
+    private static final int WARMUP = 5;
+    private static final int ITERATIONS = 50;
+    private static final String RARE_KEYWORD = "휀뷁꿻";
+    private static final String COMMON_KEYWORD = "게시판";
+    private static final String[] WORDS = {
+            "게시판", "검색", "성능", "인덱스", "데이터베이스", "스프링", "자바", "서버", "캐시", "트랜잭션",
+            "댓글", "좋아요", "조회수", "태그", "첨부", "파일", "이미지", "사용자", "로그인", "알림"
+    };
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User writer;
+
+    @BeforeAll
+    void seed() {
+        writer = userRepository.save(User.builder()
+                .username("search_bench_writer")
+                .email("search_bench_writer@test.com")
+                .password("password")
+                .build());
+
+        Random random = new Random(42);
+        long started = System.nanoTime();
+        for (int chunk = 0; chunk < POSTS; chunk += CHUNK_SIZE) {
+            int from = chunk;
+            int to = Math.min(chunk + CHUNK_SIZE, POSTS);
+            transactionTemplate.executeWithoutResult(status -> {
+                User reference = entityManager.getReference(User.class, writer.getId());
+                for (int i = from; i < to; i++) {
+                    entityManager.persist(Post.builder()
+                            .title(sentence(random, 4))
+                            .content(sentence(random, 40) + (i % 1_000 == 0 ? " " + RARE_KEYWORD : ""))
+                            .writer(reference)
+                            .build());
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+        }
+        jdbcTemplate.execute("ANALYZE TABLE post");
+        System.out.printf("seeded %d posts in %.1fs%n", POSTS, (System.nanoTime() - started) / 1_000_000_000.0);
+    }
+
+    @AfterAll
+    void cleanUp() {
+        userRepository.delete(writer); // 게시글은 FK CASCADE
+    }
+
+    @Test
+    void rareKeyword() {
+        compare(RARE_KEYWORD, POSTS / 1_000);
+    }
+
+    @Test
+    void commonKeyword() {
+        compare(COMMON_KEYWORD, -1);
+    }
+
+    // 두 경로를 같은 키워드·같은 페이지 크기로 측정 (expectedTotal이 0 이상이면 결과 건수도 확인)
+    private void compare(String keyword, long expectedTotal) {
+        PageRequest page = PageRequest.of(0, 10);
+        String query = "\"" + keyword + "\"";
+        Page<?> like = measure("LIKE     '" + keyword + "'", () -> postRepository.searchSummaries(keyword, page));
+        Page<?> fullText = measure("FULLTEXT '" + keyword + "'", () -> postRepository.fullTextSearch(query, page));
+
+        if (expectedTotal >= 0) {
+            assertThat(like.getTotalElements()).isEqualTo(expectedTotal);
+            assertThat(fullText.getTotalElements()).isEqualTo(expectedTotal);
+        }
+    }
+
+    private Page<?> measure(String label, Supplier<Page<?>> search) {
+        for (int i = 0; i < WARMUP; i++) {
+            search.get();
+        }
+        long[] elapsed = new long[ITERATIONS];
+        Page<?> result = null;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long started = System.nanoTime();
+            result = search.get();
+            elapsed[i] = System.nanoTime() - started;
+        }
+        Arrays.sort(elapsed);
+        System.out.printf("%s: avg %.1fms, p99 %.1fms, total %d (posts=%d)%n", label,
+                Arrays.stream(elapsed).average().orElse(0) / 1_000_000.0,
+                elapsed[(int) Math.ceil(ITERATIONS * 0.99) - 1] / 1_000_000.0,
+                result.getTotalElements(), POSTS);
+        return result;
+    }
+
+    private static String sentence(Random random, int words) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                sb.append(' ');
+            }
+            sb.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sb.toString();
+    }
+}
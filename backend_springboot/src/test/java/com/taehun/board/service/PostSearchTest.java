@@ -0,0 +1,75 @@
+package com.taehun.board.service;
+
+import com.taehun.board.dto.PageResponseDto;
+import com.taehun.board.dto.PostSummaryDto;
+import com.taehun.board.entity.Post;
+import com.taehun.board.entity.User;
+import com.taehun.board.repository.PostRepository;
+import com.taehun.board.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 키워드 검색 경로 검증 (FULLTEXT 인덱스는 커밋된 행만 반영하므로 트랜잭션 없이 저장 후 정리)
+@SpringBootTest
+class PostSearchTest {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = userRepository.save(User.builder()
+                .username("search_writer")
+                .email("search_writer@test.com")
+                .password("password")
+                .build());
+
+        postRepository.save(Post.builder().title("검색 대상").content("본문 휀뷁꿻 포함").writer(writer).build());
+        postRepository.save(Post.builder().title("다른 글").content("관련 없는 본문").writer(writer).build());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        userRepository.delete(writer); // 게시글은 FK CASCADE
+    }
+
+    @Test
+    void fullTextSearchMatchesSubstringInsideWord() {
+        // 단어 중간의 부분 문자열도 ngram 구문 검색으로 찾음 (기존 LIKE 검색과 같은 결과)
+        assertThat(titles(postService.searchPosts("뷁꿻", PageRequest.of(0, 10)))).containsExactly("검색 대상");
+    }
+
+    @Test
+    void booleanOperatorsAreStripped() {
+        // BOOLEAN MODE 연산자는 제거되어 구문 오류 없이 같은 검색어로 처리됨
+        assertThat(titles(postService.searchPosts("+휀뷁*", PageRequest.of(0, 10)))).containsExactly("검색 대상");
+    }
+
+    @Test
+    void shortKeywordFallsBackToLike() {
+        // ngram 토큰(2글자)보다 짧으면 LIKE 검색으로 대체
+        assertThat(titles(postService.searchPosts("꿻", PageRequest.of(0, 10)))).containsExactly("검색 대상");
+        // 연산자만 있는 키워드도 LIKE 경로로 처리되어 예외 없이 빈 결과
+        assertThat(titles(postService.searchPosts("**", PageRequest.of(0, 10)))).isEmpty();
+    }
+
+    private static List<String> titles(PageResponseDto<PostSummaryDto> page) {
+        return page.getContent().stream().map(PostSummaryDto::getTitle).toList();
+    }
+}
@@ -0,0 +1,100 @@
+package com.taehun.board.service;
+
+import com.taehun.board.dto.PageResponseDto;
+import com.taehun.board.dto.PostSummaryDto;
+import com.taehun.board.entity.Post;
+import com.taehun.board.entity.Tag;
+import com.taehun.board.entity.User;
+import com.taehun.board.repository.PostRepository;
+import com.taehun.board.repository.TagRepository;
+import com.taehun.board.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 목록 조회 시 페이지당 실행되는 SQL 수가 게시글 수와 무관하게 일정한지 검증
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class PostServiceQueryCountTest {
+
+    private static final int PAGE_SIZE = 10;
+    private static final long MAX_STATEMENTS_PER_PAGE = 4; // 목록(프로젝션) + 태그 일괄 조회 + 첨부 파일 일괄 조회 + count
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        User writer = userRepository.save(User.builder()
+                .username("qc_writer")
+                .email("qc_writer@test.com")
+                .password("password")
+                .build());
+
+        for (int i = 0; i < PAGE_SIZE * 2; i++) {
+            Post post = Post.builder()
+                    .title("qc_title_" + i)
+                    .content("qc_content_" + i)
+                    .writer(writer)
+                    .build();
+            post.addTag(tagRepository.save(Tag.builder().name("qc_tag_" + i).build()));
+            post.addTag(tagRepository.save(Tag.builder().name("qc_common_" + i).build()));
+            postRepository.save(post);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void getPostsRunsConstantStatementsPerPage() {
+        PageResponseDto<PostSummaryDto> page = postService.getPosts(PageRequest.of(0, PAGE_SIZE));
+
+        assertThat(page.getContent()).hasSize(PAGE_SIZE);
+        assertThat(page.getContent()).allSatisfy(post -> assertThat(post.getWriter().getUsername()).isNotNull());
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_STATEMENTS_PER_PAGE);
+    }
+
+    @Test
+    void searchPostsRunsConstantStatementsPerPage() {
+        // InnoDB FULLTEXT 인덱스는 커밋 전 데이터를 반영하지 않으므로 1글자 키워드(LIKE 경로)로 검증
+        PageResponseDto<PostSummaryDto> page = postService.searchPosts("q", PageRequest.of(0, PAGE_SIZE));
+
+        assertThat(page.getContent()).hasSize(PAGE_SIZE);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_STATEMENTS_PER_PAGE);
+    }
+
+    @Test
+    void searchPostsByTagRunsConstantStatementsPerPage() {
+        PageResponseDto<PostSummaryDto> page = postService.searchPostsByTag("qc_tag_1", PageRequest.of(0, PAGE_SIZE));
+
+        assertThat(page.getContent()).hasSize(1);
+        assertThat(page.getContent().get(0).getTags()).containsExactlyInAnyOrder("qc_tag_1", "qc_common_1");
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_STATEMENTS_PER_PAGE);
+    }
+}